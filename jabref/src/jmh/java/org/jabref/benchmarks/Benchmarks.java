@@ -13,10 +13,13 @@ import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.layout.format.RTFChars;
+import org.jabref.logic.layout.format.XMLChars;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabase;
@@ -48,10 +51,14 @@ import static org.mockito.Mockito.mock;
 @State(Scope.Thread)
 public class Benchmarks {
 
+    private static final int NUMBER_OF_ENTRIES_IN_LARGE_LIBRARY = 100_000;
+
     private String bibtexString;
+    private String largeBibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private String unicodeConversionString;
 
     @Setup
     public void init() throws Exception {
@@ -71,10 +78,33 @@ public class Benchmarks {
         }
 
         bibtexString = getOutputWriter().toString();
+        largeBibtexString = createLargeBibtexString();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        unicodeConversionString = "Österreich – naïve café “quoted” Ångström ∑ characters and plain text";
+    }
+
+    private String createLargeBibtexString() throws IOException {
+        BibDatabase largeDatabase = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES_IN_LARGE_LIBRARY; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCitationKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + (i % 1000));
+            entry.setField(StandardField.JOURNAL, "Journal Title " + (i % 100));
+            entry.setField(StandardField.ABSTRACT, "An abstract which is considerably longer than the other fields of the entry " + i);
+            entry.setField(StandardField.YEAR, "1" + (i % 1000));
+            largeDatabase.insertEntry(entry);
+        }
+
+        StringWriter outputWriter = new StringWriter();
+        BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(bibWriter, mock(GeneralPreferences.class), mock(SavePreferences.class), new BibEntryTypesManager());
+        databaseWriter.savePartOfDatabase(new BibDatabaseContext(largeDatabase, new MetaData()), largeDatabase.getEntries());
+        return outputWriter.toString();
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -91,6 +121,12 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLargeLibrary() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(largeBibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -133,6 +169,24 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public String unicodeToLatexConversion() {
+        UnicodeToLatexFormatter f = new UnicodeToLatexFormatter();
+        return f.format(unicodeConversionString);
+    }
+
+    @Benchmark
+    public String latexToRtfConversion() {
+        RTFChars f = new RTFChars();
+        return f.format(latexConversionString);
+    }
+
+    @Benchmark
+    public String latexToXmlConversion() {
+        XMLChars f = new XMLChars();
+        return f.format(latexConversionString);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
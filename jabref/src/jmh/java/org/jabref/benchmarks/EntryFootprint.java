@@ -0,0 +1,62 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.util.OS;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.mockito.Answers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the heap retained per entry of a parsed library. JMH measures time and allocation, not retained memory,
+ * thus this is a plain program. Run it with a fixed heap (e.g., <code>-Xms2g -Xmx2g</code>) before and after a change
+ * to compare the bytes per entry.
+ */
+public class EntryFootprint {
+
+    private static final int NUMBER_OF_ENTRIES = 250_000;
+
+    public static void main(String[] args) throws IOException {
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            bibtex.append("@Article{id").append(i).append(',').append(OS.NEWLINE)
+                  .append("  author  = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i % 1000).append("},").append(OS.NEWLINE)
+                  .append("  title   = {This is my title ").append(i).append("},").append(OS.NEWLINE)
+                  .append("  journal = {Journal Title ").append(i % 100).append("},").append(OS.NEWLINE)
+                  .append("  year    = {").append(1900 + (i % 120)).append("},").append(OS.NEWLINE)
+                  .append("}").append(OS.NEWLINE).append(OS.NEWLINE);
+        }
+        String text = bibtex.toString();
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+
+        long before = usedHeap();
+        ParserResult result = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(text));
+        long after = usedHeap();
+
+        System.out.printf("%d entries, %d bytes per entry%n",
+                result.getDatabase().getEntryCount(),
+                (after - before) / NUMBER_OF_ENTRIES);
+        Reference.reachabilityFence(text);
+        Reference.reachabilityFence(result);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -49,6 +49,7 @@ import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
 import org.jabref.logic.util.OS;
+import org.jabref.logic.util.io.DirectorySnapshot;
 import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -641,7 +642,8 @@ public class ArgumentProcessor {
                     parserResult.getDatabaseContext(),
                     preferencesService.getFilePreferences(),
                     preferencesService.getAutoLinkPreferences(),
-                    ExternalFileTypes.getInstance());
+                    ExternalFileTypes.getInstance(),
+                    DirectorySnapshot.getDefaultCacheDirectory());
             util.linkAssociatedFiles(database.getEntries(), new NamedCompound(""));
         }
     }
@@ -655,9 +657,7 @@ public class ArgumentProcessor {
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                     parserResult.getDatabaseContext(),
                     preferencesService.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
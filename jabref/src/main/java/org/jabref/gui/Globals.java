@@ -12,6 +12,7 @@ import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -144,6 +145,7 @@ public class Globals {
         TASK_EXECUTOR.shutdown();
         fileUpdateMonitor.shutdown();
         JabRefExecutorService.INSTANCE.shutdownEverything();
+        CitationStyleGenerator.shutdown();
     }
 
     public static void stopBackgroundTasks() {
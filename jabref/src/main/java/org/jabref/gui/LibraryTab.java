@@ -46,6 +46,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
+import org.jabref.logic.pdf.search.PdfIndex;
 import org.jabref.logic.pdf.search.indexing.IndexingTaskManager;
 import org.jabref.logic.pdf.search.indexing.PdfIndexer;
 import org.jabref.logic.search.SearchQuery;
@@ -57,6 +58,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -142,7 +144,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(this.getDatabase(), preferencesService));
 
         this.entryEditor = new EntryEditor(this, externalFileTypes);
 
@@ -239,7 +241,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(this.getDatabase(), preferencesService));
 
         this.entryEditor = new EntryEditor(this, externalFileTypes);
 
@@ -529,6 +531,13 @@ public class LibraryTab extends Tab {
             suggestionProviders = new SuggestionProviders();
         }
         searchAutoCompleter = new PersonNameSuggestionProvider(FieldFactory.getPersonNameFields(), getDatabase());
+
+        SuggestionProviders providersToBuild = suggestionProviders;
+        PersonNameSuggestionProvider searchAutoCompleterToBuild = searchAutoCompleter;
+        BackgroundTask.wrap(() -> {
+            providersToBuild.buildIndices();
+            searchAutoCompleterToBuild.buildIndex();
+        }).executeWith(Globals.TASK_EXECUTOR);
     }
 
     public void updateSearchManager() {
@@ -676,6 +685,8 @@ public class LibraryTab extends Tab {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext);
+        indexingTaskManager.cancel();
+        PdfIndex.shutdown(bibDatabaseContext);
     }
 
     /**
@@ -838,6 +849,11 @@ public class LibraryTab extends Tab {
             DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
         }
 
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
+        }
+
         @Subscribe
         public void listen(EntriesRemovedEvent removedEntriesEvent) {
             // IMO only used to update the status (found X entries)
@@ -849,7 +865,7 @@ public class LibraryTab extends Tab {
 
         public IndexUpdateListener() {
             try {
-                indexingTaskManager.addToIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), bibDatabaseContext);
+                indexingTaskManager.updateIndex(PdfIndexer.of(bibDatabaseContext, preferencesService.getFilePreferences()), bibDatabaseContext);
             } catch (IOException e) {
                 LOGGER.error("Cannot access lucene index", e);
             }
@@ -881,6 +897,17 @@ public class LibraryTab extends Tab {
 
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
+            updateLinkedFiles(fieldChangedEvent);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            if (entriesChangedEvent.getFields().contains(StandardField.FILE)) {
+                entriesChangedEvent.getFieldChanges().forEach(this::updateLinkedFiles);
+            }
+        }
+
+        private void updateLinkedFiles(FieldChangedEvent fieldChangedEvent) {
             if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
                 List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
                 List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
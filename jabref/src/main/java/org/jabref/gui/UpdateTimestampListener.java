@@ -1,7 +1,15 @@
 package org.jabref.gui;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
 
@@ -11,9 +19,11 @@ import com.google.common.eventbus.Subscribe;
  * Updates the timestamp of changed entries if the feature is enabled
  */
 class UpdateTimestampListener {
+    private final BibDatabase database;
     private final PreferencesService preferencesService;
 
-    UpdateTimestampListener(PreferencesService preferencesService) {
+    UpdateTimestampListener(BibDatabase database, PreferencesService preferencesService) {
+        this.database = database;
         this.preferencesService = preferencesService;
     }
 
@@ -26,4 +36,23 @@ class UpdateTimestampListener {
                     preferencesService.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (!preferencesService.getTimestampPreferences().shouldAddModificationDate()) {
+            return;
+        }
+        String now = preferencesService.getTimestampPreferences().now();
+        Set<BibEntry> updatedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        // the timestamps are posted as one event, which is ignored here as it only changes the timestamps
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            for (FieldChangedEvent change : event.getFieldChanges()) {
+                if ((change.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP)
+                        && !StandardField.MODIFICATIONDATE.equals(change.getField())
+                        && updatedEntries.add(change.getBibEntry())) {
+                    change.getBibEntry().setField(StandardField.MODIFICATIONDATE, now);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,301 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.collect.Ordering;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the terms (words or person names) in some fields of a library, so that completions can be found without
+ * going through all entries for every keystroke.
+ * <p>
+ * For each term, the index counts the field values containing it. To find terms containing the typed text anywhere,
+ * the index maps all substrings of up to {@link #MAX_GRAM_LENGTH} characters (n-grams) to the terms containing them.
+ * <p>
+ * The index is built on first use (or by calling {@link #build()} in the background) and afterwards kept up to date
+ * with the changes of the library. As a change event may be delivered after the build already read the changed value,
+ * the index remembers the values it indexed for each entry and replaces these by the current values of the entry.
+ */
+class CompletionIndex<T> {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+    private final Set<Field> fields;
+    private final Function<String, Collection<T>> termsOfValue;
+    private final Function<T, String> textOfTerm;
+
+    // guarded by this
+    private final Map<T, IndexedTerm> terms = new HashMap<>();
+    private final Map<String, Set<T>> termsByGram = new HashMap<>();
+    // identity based, as equal entries are indexed separately
+    private final Map<BibEntry, Map<Field, String>> indexedValues = new IdentityHashMap<>();
+    private boolean built = false;
+
+    /**
+     * @param termsOfValue splits a field value into the terms to complete
+     * @param textOfTerm   the text a term is matched against
+     */
+    CompletionIndex(BibDatabase database, Collection<Field> fields, Function<String, Collection<T>> termsOfValue, Function<T, String> textOfTerm) {
+        this.database = Objects.requireNonNull(database);
+        this.fields = new HashSet<>(fields);
+        this.termsOfValue = termsOfValue;
+        this.textOfTerm = textOfTerm;
+        database.registerListener(this);
+    }
+
+    static CompletionIndex<String> forWords(Field field, BibDatabase database) {
+        return new CompletionIndex<>(database, Collections.singleton(field),
+                value -> new HashSet<>(StringUtil.getStringAsWords(value)),
+                word -> word);
+    }
+
+    static CompletionIndex<Author> forPersonNames(Collection<Field> fields, BibDatabase database) {
+        return new CompletionIndex<>(database, fields,
+                value -> AuthorList.parse(value).getAuthors(),
+                author -> author.getLastFirst(false));
+    }
+
+    /**
+     * Indexes all entries of the library, if this was not done yet.
+     */
+    void build() {
+        // the database lock keeps entries from being added while they are indexed; it has to be taken first, as
+        // entries are added while holding it
+        synchronized (database) {
+            synchronized (this) {
+                if (built) {
+                    return;
+                }
+                for (BibEntry entry : database.getEntries()) {
+                    indexEntry(entry);
+                }
+                built = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the terms whose text contains the given text, ignoring case. Terms starting with the text come first,
+     * followed by the terms contained in most field values.
+     *
+     * @param limit the maximal number of terms to return
+     */
+    List<T> find(String text, int limit) {
+        build();
+        String query = normalize(text);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        synchronized (this) {
+            Set<T> candidates = getCandidates(query);
+            Comparator<T> rank = Comparator.<T, Boolean>comparing(term -> !terms.get(term).normalizedText().startsWith(query))
+                                           .thenComparing(term -> terms.get(term).count(), Comparator.reverseOrder());
+            return Ordering.from(rank).leastOf(
+                    candidates.stream().filter(term -> StringUtil.containsIgnoreCase(textOfTerm.apply(term), text)).iterator(),
+                    limit);
+        }
+    }
+
+    /**
+     * Returns all terms of the index.
+     */
+    Stream<T> getTerms() {
+        build();
+        synchronized (this) {
+            return new ArrayList<>(terms.keySet()).stream();
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::indexEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::removeEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (built) {
+            updateField(event);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        if (built && event.getFields().stream().anyMatch(fields::contains)) {
+            event.getFieldChanges().forEach(this::updateField);
+        }
+    }
+
+    private void updateField(FieldChangedEvent event) {
+        // entries which are not indexed are not part of the library (anymore)
+        if (fields.contains(event.getField()) && indexedValues.containsKey(event.getBibEntry())) {
+            updateValue(event.getBibEntry(), event.getField());
+        }
+    }
+
+    private Set<T> getCandidates(String query) {
+        if (query.length() <= MAX_GRAM_LENGTH) {
+            return termsByGram.getOrDefault(query, Collections.emptySet());
+        }
+        // all grams of the query are contained in a matching term, thus the least frequent one is checked
+        Set<T> candidates = null;
+        for (int start = 0; (start + MAX_GRAM_LENGTH) <= query.length(); start++) {
+            Set<T> termsWithGram = termsByGram.getOrDefault(query.substring(start, start + MAX_GRAM_LENGTH), Collections.emptySet());
+            if ((candidates == null) || (termsWithGram.size() < candidates.size())) {
+                candidates = termsWithGram;
+            }
+        }
+        return candidates;
+    }
+
+    private void indexEntry(BibEntry entry) {
+        indexedValues.putIfAbsent(entry, Collections.emptyMap());
+        for (Field field : fields) {
+            updateValue(entry, field);
+        }
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Map<Field, String> values = indexedValues.remove(entry);
+        if (values != null) {
+            values.values().forEach(value -> termsOfValue.apply(value).forEach(this::removeTerm));
+        }
+    }
+
+    /**
+     * Replaces the indexed value of the field by the current one. Thus, the value is not indexed twice if the change
+     * of the field was already seen.
+     */
+    private void updateValue(BibEntry entry, Field field) {
+        Map<Field, String> values = indexedValues.get(entry);
+        String oldValue = values.get(field);
+        String newValue = entry.getField(field).orElse(null);
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        if (values.isEmpty()) {
+            // most entries have values for only one of the fields
+            values = new HashMap<>(2);
+            indexedValues.put(entry, values);
+        }
+        if (oldValue != null) {
+            termsOfValue.apply(oldValue).forEach(this::removeTerm);
+            values.remove(field);
+        }
+        if (newValue != null) {
+            termsOfValue.apply(newValue).forEach(this::addTerm);
+            values.put(field, newValue);
+        }
+    }
+
+    private void addTerm(T term) {
+        IndexedTerm indexedTerm = terms.get(term);
+        if (indexedTerm != null) {
+            indexedTerm.increment();
+            return;
+        }
+        String normalizedText = normalize(textOfTerm.apply(term));
+        terms.put(term, new IndexedTerm(normalizedText));
+        for (String gram : getGrams(normalizedText)) {
+            termsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void removeTerm(T term) {
+        IndexedTerm indexedTerm = terms.get(term);
+        if ((indexedTerm == null) || (indexedTerm.decrement() > 0)) {
+            return;
+        }
+        terms.remove(term);
+        for (String gram : getGrams(indexedTerm.normalizedText())) {
+            Set<T> termsWithGram = termsByGram.get(gram);
+            if (termsWithGram != null) {
+                termsWithGram.remove(term);
+                if (termsWithGram.isEmpty()) {
+                    termsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < text.length(); start++) {
+            for (int length = 1; (length <= MAX_GRAM_LENGTH) && ((start + length) <= text.length()); length++) {
+                grams.add(text.substring(start, start + length));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Folds the case of each character the same way {@link StringUtil#containsIgnoreCase} compares characters, so that
+     * no match is missed.
+     */
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            normalized.append(Character.toLowerCase(Character.toUpperCase(text.charAt(i))));
+        }
+        return normalized.toString();
+    }
+
+    private static class IndexedTerm {
+
+        private final String normalizedText;
+        private int count = 1;
+
+        IndexedTerm(String normalizedText) {
+            this.normalizedText = normalizedText;
+        }
+
+        String normalizedText() {
+            return normalizedText;
+        }
+
+        int count() {
+            return count;
+        }
+
+        void increment() {
+            count++;
+        }
+
+        int decrement() {
+            return --count;
+        }
+    }
+}
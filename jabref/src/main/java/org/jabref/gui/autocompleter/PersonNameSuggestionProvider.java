@@ -22,18 +22,25 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
  */
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
+    // several names can share the last name, which is the only part shown
+    private static final int MAX_CANDIDATES = 5 * MAX_SUGGESTIONS;
+
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final CompletionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(fields, CompletionIndex.forPersonNames(Objects.requireNonNull(fields), database));
+    }
+
+    PersonNameSuggestionProvider(Collection<Field> fields, CompletionIndex<Author> index) {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = index;
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,10 +68,20 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getLastFirst(false), request.getUserText());
     }
 
+    @Override
+    protected Stream<Author> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_CANDIDATES).stream();
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getTerms();
+    }
+
+    /**
+     * Builds the index of the names, so that the first completion does not have to wait for it.
+     */
+    public void buildIndex() {
+        index.build();
     }
 }
@@ -42,17 +42,18 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    protected static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return getMatches(request).map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                                      .distinct()
+                                      .limit(MAX_SUGGESTIONS)
+                                      .map(Equivalence.Wrapper::get)
+                                      .sorted(comparator)
+                                      .collect(Collectors.toList());
         } else {
             return Collections.emptyList();
         }
@@ -75,6 +76,14 @@ public abstract class SuggestionProvider<T> {
      */
     protected abstract Comparator<T> getComparator();
 
+    /**
+     * Returns the candidates matching the request, the best ones first. By default, all candidates of the source are
+     * checked.
+     */
+    protected Stream<T> getMatches(ISuggestionRequest request) {
+        return getSource().filter(candidate -> isMatch(candidate, request));
+    }
+
     /**
      * Check the given candidate is a match (ie a valid suggestion)
      */
@@ -1,9 +1,13 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
@@ -15,6 +19,10 @@ public class SuggestionProviders {
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
 
+    // shared by all editors of a field, as keeping an index up to date is not free
+    private final Map<Field, CompletionIndex<Author>> personNameIndices = new ConcurrentHashMap<>();
+    private final Map<Field, CompletionIndex<String>> wordIndices = new ConcurrentHashMap<>();
+
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
@@ -33,13 +41,42 @@ public class SuggestionProviders {
 
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
-            return new PersonNameSuggestionProvider(field, database);
+            return new PersonNameSuggestionProvider(Collections.singletonList(field), getPersonNameIndex(field));
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
             return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER.equals(field)) {
             return new JournalsSuggestionProvider(field, database, abbreviationRepository);
         } else {
-            return new WordSuggestionProvider(field, database);
+            return new WordSuggestionProvider(getWordIndex(field));
+        }
+    }
+
+    /**
+     * Builds the completion indices of all fields to complete. As this goes through all entries, better call it from
+     * outside the main thread.
+     */
+    public void buildIndices() {
+        if (isEmpty) {
+            return;
+        }
+        for (Field field : autoCompletePreferences.getCompleteFields()) {
+            Set<FieldProperty> fieldProperties = field.getProperties();
+            if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
+                getPersonNameIndex(field).build();
+            } else if (!fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK)
+                    && !fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)
+                    && !fieldProperties.contains(FieldProperty.JOURNAL_NAME)
+                    && !StandardField.PUBLISHER.equals(field)) {
+                getWordIndex(field).build();
+            }
         }
     }
+
+    private CompletionIndex<Author> getPersonNameIndex(Field field) {
+        return personNameIndices.computeIfAbsent(field, key -> CompletionIndex.forPersonNames(Collections.singletonList(key), database));
+    }
+
+    private CompletionIndex<String> getWordIndex(Field field) {
+        return wordIndices.computeIfAbsent(field, key -> CompletionIndex.forWords(key, database));
+    }
 }
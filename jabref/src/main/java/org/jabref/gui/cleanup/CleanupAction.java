@@ -16,6 +16,7 @@ import org.jabref.logic.cleanup.CleanupPreset;
 import org.jabref.logic.cleanup.CleanupWorker;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
@@ -126,16 +127,18 @@ public class CleanupAction extends SimpleCommand {
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreset cleanupPreset) {
         preferences.setCleanupPreset(cleanupPreset);
 
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        try (BibDatabase.BatchEdit batchEdit = databaseContext.startBatchEdit()) {
+            for (BibEntry entry : stateManager.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
 
-            doCleanup(databaseContext, cleanupPreset, entry, ce);
+                doCleanup(databaseContext, cleanupPreset, entry, ce);
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                frame.getUndoManager().addEdit(ce);
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    frame.getUndoManager().addEdit(ce);
+                }
             }
         }
     }
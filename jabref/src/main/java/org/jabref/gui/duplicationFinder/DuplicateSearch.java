@@ -83,24 +83,19 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; (i < (entries.size() - 1)); i++) {
-            for (int j = i + 1; (j < entries.size()); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(Globals.entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        new DuplicateCheck(Globals.entryTypesManager).findDuplicates(entries, databaseMode, this::addDuplicate);
+        if (Thread.interrupted()) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
 
+    // called by several threads of the duplicate search
+    private synchronized void addDuplicate(BibEntry first, BibEntry second) {
+        duplicates.add(Arrays.asList(first, second));
+        duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+    }
+
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
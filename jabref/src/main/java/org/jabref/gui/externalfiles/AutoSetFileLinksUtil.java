@@ -16,6 +16,7 @@ import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectorySnapshot;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -56,25 +57,48 @@ public class AutoSetFileLinksUtil {
     private final List<Path> directories;
     private final AutoLinkPreferences autoLinkPreferences;
     private final ExternalFileTypes externalFileTypes;
+    private final Optional<Path> snapshotCacheDirectory;
 
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes) {
-        this(databaseContext.getFileDirectories(filePreferences), autoLinkPreferences, externalFileTypes);
+        this(databaseContext.getFileDirectories(filePreferences), autoLinkPreferences, externalFileTypes, Optional.empty());
     }
 
-    private AutoSetFileLinksUtil(List<Path> directories, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes) {
+    /**
+     * @param snapshotCacheDirectory the directory to store the snapshots of the file directories in, so that they are
+     *                               walked again only if they have been modified, see {@link DirectorySnapshot}
+     */
+    public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes, Path snapshotCacheDirectory) {
+        this(databaseContext.getFileDirectories(filePreferences), autoLinkPreferences, externalFileTypes, Optional.of(snapshotCacheDirectory));
+    }
+
+    private AutoSetFileLinksUtil(List<Path> directories, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes, Optional<Path> snapshotCacheDirectory) {
         this.directories = directories;
         this.autoLinkPreferences = autoLinkPreferences;
         this.externalFileTypes = externalFileTypes;
+        this.snapshotCacheDirectory = snapshotCacheDirectory;
     }
 
+    /**
+     * Links the files associated with the given entries. The file directories are walked only once for all entries.
+     */
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
         LinkFilesResult result = new LinkFilesResult();
 
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        DirectorySnapshot snapshot;
+        try {
+            snapshot = createSnapshot();
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem finding files", e);
+            return result;
+        }
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = getNotLinkedFiles(entry, fileFinder.findAssociatedFiles(entry, snapshot));
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -104,14 +128,31 @@ public class AutoSetFileLinksUtil {
         return result;
     }
 
-    public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
-        List<LinkedFile> linkedFiles = new ArrayList<>();
+    private DirectorySnapshot createSnapshot() throws IOException {
+        List<String> extensions = getExtensions();
+        if (snapshotCacheDirectory.isPresent()) {
+            return DirectorySnapshot.loadOrCreate(snapshotCacheDirectory.get(), directories, extensions);
+        }
+        return DirectorySnapshot.create(directories, extensions);
+    }
 
-        List<String> extensions = externalFileTypes.getExternalFileTypeSelection().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
+    private List<String> getExtensions() {
+        return externalFileTypes.getExternalFileTypeSelection().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
+    }
 
+    public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
         // Run the search operation
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
-        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
+        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, getExtensions());
+
+        return getNotLinkedFiles(entry, result);
+    }
+
+    /**
+     * Returns the found files that are not yet linked to the entry.
+     */
+    private List<LinkedFile> getNotLinkedFiles(BibEntry entry, List<Path> result) {
+        List<LinkedFile> linkedFiles = new ArrayList<>();
 
         // Collect the found files that are not yet linked
         for (Path foundFile : result) {
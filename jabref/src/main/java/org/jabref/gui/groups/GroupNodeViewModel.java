@@ -1,16 +1,21 @@
 package org.jabref.gui.groups;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -50,7 +55,9 @@ public class GroupNodeViewModel {
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
-    private final ObservableList<BibEntry> matchedEntries = FXCollections.observableArrayList();
+    // guarded by itself; identity based, as the membership of two equal entries is tracked separately
+    private final Set<BibEntry> matchedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final IntegerProperty hits = new SimpleIntegerProperty();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
@@ -161,8 +168,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -188,7 +195,7 @@ public class GroupNodeViewModel {
                 ", children=" + children +
                 ", databaseContext=" + databaseContext +
                 ", groupNode=" + groupNode +
-                ", matchedEntries=" + matchedEntries +
+                ", hits=" + hits.get() +
                 '}';
     }
 
@@ -221,34 +228,37 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
+     * Gets invoked if an entry in the current database changes. Only the entries touched by the change are matched
+     * against the group, the hits of all other entries stay valid.
      */
     private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        if (!matchedEntries.contains(changedEntry)) {
+        if (!preferencesService.getDisplayGroupCount()) {
+            return;
+        }
+        synchronized (matchedEntries) {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    // Nothing to do, as permutation doesn't change matched entries
+                } else if (change.wasUpdated()) {
+                    for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
+                        if (groupNode.matches(changedEntry)) {
                             matchedEntries.add(changedEntry);
+                        } else {
+                            matchedEntries.remove(changedEntry);
                         }
-                    } else {
-                        matchedEntries.remove(changedEntry);
                     }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    matchedEntries.remove(removedEntry);
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        if (!matchedEntries.contains(addedEntry)) {
+                } else {
+                    for (BibEntry removedEntry : change.getRemoved()) {
+                        matchedEntries.remove(removedEntry);
+                    }
+                    for (BibEntry addedEntry : change.getAddedSubList()) {
+                        if (groupNode.matches(addedEntry)) {
                             matchedEntries.add(addedEntry);
                         }
                     }
                 }
             }
+            updateHits();
         }
     }
 
@@ -264,20 +274,26 @@ public class GroupNodeViewModel {
     }
 
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The hits are computed once here, afterwards they are updated for the changed entries only (see onDatabaseChanged)
         if (preferencesService.getDisplayGroupCount()) {
             BackgroundTask
                     .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
                     .onSuccess(entries -> {
-                        matchedEntries.clear();
-                        matchedEntries.addAll(entries);
+                        synchronized (matchedEntries) {
+                            matchedEntries.clear();
+                            matchedEntries.addAll(entries);
+                            updateHits();
+                        }
                     })
                     .executeWith(taskExecutor);
         }
     }
 
+    private void updateHits() {
+        int numberOfHits = matchedEntries.size();
+        DefaultTaskExecutor.runInJavaFXThread(() -> hits.set(numberOfHits));
+    }
+
     public GroupTreeNode addSubgroup(AbstractGroup subgroup) {
         return groupNode.addSubgroup(subgroup);
     }
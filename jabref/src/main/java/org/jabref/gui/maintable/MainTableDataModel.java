@@ -2,8 +2,10 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -15,20 +17,24 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
 
 public class MainTableDataModel {
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
-    private final GroupViewMode groupViewMode;
+    private final ObjectProperty<GroupViewMode> groupViewMode;
+    private final ObjectBinding<Predicate<BibEntryTableViewModel>> filter;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
     private final BibDatabaseContext bibDatabaseContext;
@@ -43,21 +49,37 @@ public class MainTableDataModel {
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
+        groupViewMode = new SimpleObjectProperty<>(preferencesService.getGroupViewMode());
+        filter = Bindings.createObjectBinding(
+                () -> createFilter(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty().get()),
+                stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), groupViewMode);
         entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), (groups, query) -> entry -> isMatched(groups, query, entry))
-        );
+        entriesFiltered.predicateProperty().bind(filter);
+        context.getMetaData().registerListener(this);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
         stateManager.setActiveSearchResultSize(context, resultSize);
         // We need to wrap the list since otherwise sorting in the table does not work
         entriesSorted = new SortedList<>(entriesFiltered);
-        groupViewMode = preferencesService.getGroupViewMode();
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    /**
+     * The group matcher is built from the group tree, thus it is rebuilt after each change of the tree.
+     */
+    @Subscribe
+    public void listen(GroupUpdatedEvent event) {
+        DefaultTaskExecutor.runInJavaFXThread(filter::invalidate);
+    }
+
+    /**
+     * Creates the predicate filtering the entries shown in the table. The group matcher is built once here instead of for
+     * every entry that is tested. The predicate is recreated if the selected groups, the search query, the group view
+     * mode or the group tree change.
+     */
+    private Predicate<BibEntryTableViewModel> createFilter(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query) {
+        Optional<MatcherSet> groupMatcher = createGroupMatcher(groups);
+        return entry -> isMatchedByGroup(groupMatcher, entry) && isMatchedBySearch(query, entry);
     }
 
     private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
@@ -65,10 +87,9 @@ public class MainTableDataModel {
                     .orElse(true);
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedByGroup(Optional<MatcherSet> groupMatcher, BibEntryTableViewModel entry) {
+        return groupMatcher.map(matcher -> matcher.isMatch(entry.getEntry()))
+                           .orElse(true);
     }
 
     private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
@@ -77,7 +98,7 @@ public class MainTableDataModel {
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(groupViewMode == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
+        final MatcherSet searchRules = MatcherSets.build(groupViewMode.get() == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
 
         for (GroupTreeNode node : selectedGroups) {
             searchRules.addRule(node.getSearchMatcher());
@@ -91,5 +112,6 @@ public class MainTableDataModel {
 
     public void refresh() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
+        this.groupViewMode.set(preferencesService.getGroupViewMode());
     }
 }
@@ -23,6 +23,9 @@ import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.keyboard.KeyBindingRepository;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.citationstyle.CitationStylePreviewLayout;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
@@ -60,6 +63,10 @@ public class PreviewPanel extends VBox {
         PreviewPreferences previewPreferences = preferences.getPreviewPreferences();
         previewView = new PreviewViewer(database, dialogService, stateManager);
         previewView.setLayout(previewPreferences.getCurrentPreviewStyle());
+        if (previewPreferences.getCurrentPreviewStyle() instanceof CitationStylePreviewLayout) {
+            // the first preview would otherwise wait for the CSL engine to be created
+            CitationStyleGenerator.warmUp(((CitationStylePreviewLayout) previewPreferences.getCurrentPreviewStyle()).getSource(), CitationStyleOutputFormat.HTML);
+        }
         previewView.setContextMenu(createPopupMenu());
         previewView.setTheme(this.preferences.getTheme());
         previewView.setOnDragDetected(event -> {
@@ -17,6 +17,7 @@ import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.exporter.SaveDatabaseAction;
 import org.jabref.gui.mergeentries.MergeEntriesDialog;
 import org.jabref.gui.undo.UndoableRemoveEntries;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.shared.DBMSConnection;
@@ -48,6 +49,11 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(ConnectionLostEvent connectionLostEvent) {
+        // shared database events are posted by background threads, e.g., the writer of the DBMSSynchronizer
+        DefaultTaskExecutor.runInJavaFXThread(() -> handleConnectionLost(connectionLostEvent));
+    }
+
+    private void handleConnectionLost(ConnectionLostEvent connectionLostEvent) {
 
         ButtonType reconnect = new ButtonType(Localization.lang("Reconnect"), ButtonData.YES);
         ButtonType workOffline = new ButtonType(Localization.lang("Work offline"), ButtonData.NO);
@@ -76,6 +82,10 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(UpdateRefusedEvent updateRefusedEvent) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> resolveRefusedUpdate(updateRefusedEvent));
+    }
+
+    private void resolveRefusedUpdate(UpdateRefusedEvent updateRefusedEvent) {
 
         jabRefFrame.getDialogService().notify(Localization.lang("Update refused."));
 
@@ -115,6 +125,10 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(SharedEntriesNotPresentEvent event) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> handleSharedEntriesNotPresent(event));
+    }
+
+    private void handleSharedEntriesNotPresent(SharedEntriesNotPresentEvent event) {
         LibraryTab libraryTab = jabRefFrame.getCurrentLibraryTab();
         EntryEditor entryEditor = libraryTab.getEntryEditor();
 
@@ -11,6 +11,7 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.StringTokenizer;
 import java.util.function.Function;
@@ -29,6 +30,7 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
@@ -75,6 +77,28 @@ public class BracketedPattern {
     private static final Pattern DEPARTMENTS = Pattern.compile("^d[ei]p.*", Pattern.CASE_INSENSITIVE);
     private static final Pattern WHITESPACE = Pattern.compile("\\p{javaWhitespace}");
 
+    private static final Pattern AUTH_INI_N = Pattern.compile("authIni\\d+");
+    private static final Pattern AUTH_N_OF_M = Pattern.compile("auth\\d+_\\d+");
+    private static final Pattern AUTH_N = Pattern.compile("auth\\d+");
+    private static final Pattern AUTHORS_N = Pattern.compile("authors\\d+");
+    private static final Pattern EDTR_INI_N = Pattern.compile("edtrIni\\d+");
+    private static final Pattern EDTR_N_OF_M = Pattern.compile("edtr\\d+_\\d+");
+    private static final Pattern EDTR_N = Pattern.compile("edtr\\d+");
+    private static final Pattern KEYWORD_N = Pattern.compile("keyword\\d+");
+    private static final Pattern KEYWORDS_N = Pattern.compile("keywords\\d*");
+
+    /**
+     * The markers with a special meaning, which {@link #getFieldValue(BibEntry, String, Character, BibDatabase)} does
+     * not resolve to the value of the field with the name of the marker. Markers with a number, such as authIni2, are
+     * matched by the patterns above.
+     */
+    private static final Set<String> AUTHOR_MARKERS = Set.of("auth", "authForeIni", "authFirstFull", "authors", "authorsAlpha",
+            "authorLast", "authorLastForeIni", "authorIni", "auth.auth.ea", "auth.etal", "authEtAl", "authshort");
+    private static final Set<String> EDITOR_MARKERS = Set.of("edtr", "edtrForeIni", "editors", "editorLast", "editorLastForeIni",
+            "editorIni", "edtr.edtr.ea", "edtrshort");
+    private static final Set<String> OTHER_MARKERS = Set.of("firstpage", "pageprefix", "lastpage", "title", "fulltitle",
+            "shorttitle", "shorttitleINI", "veryshorttitle", "camel", "shortyear", "entrytype");
+
     private enum Institution {
         SCHOOL,
         DEPARTMENT,
@@ -303,6 +327,146 @@ public class BracketedPattern {
         }
     }
 
+    /**
+     * A pattern parsed into its literal texts and its bracketed expressions. In contrast to {@link
+     * #expandBrackets(String, Function)}, expanding a compiled pattern does not parse the pattern again, which pays off
+     * when the pattern is expanded for many entries. A compiled pattern is immutable and may be expanded concurrently.
+     */
+    static class CompiledPattern {
+        // the literal texts before, between, and after the expressions, thus one more than there are expressions
+        private final List<String> literals;
+        private final List<BracketExpression> expressions;
+
+        private CompiledPattern(List<String> literals, List<BracketExpression> expressions) {
+            this.literals = literals;
+            this.expressions = expressions;
+        }
+
+        /**
+         * Parses the given pattern the same way {@link #expandBrackets(String, Function)} does.
+         */
+        static CompiledPattern compile(String pattern) {
+            Objects.requireNonNull(pattern);
+            List<String> literals = new ArrayList<>();
+            List<BracketExpression> expressions = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
+
+            while (parsedPattern.hasMoreTokens()) {
+                String token = parsedPattern.nextToken();
+                switch (token) {
+                    case "\"" -> appendQuote(literal, parsedPattern);
+                    case "[" -> {
+                        literals.add(literal.toString());
+                        literal = new StringBuilder();
+                        expressions.add(new BracketExpression(contentBetweenBrackets(parsedPattern, pattern)));
+                    }
+                    case "\\" -> {
+                        if (parsedPattern.hasMoreTokens()) {
+                            literal.append(parsedPattern.nextToken());
+                        } else {
+                            LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
+                        }
+                    }
+                    default -> literal.append(token);
+                }
+            }
+            literals.add(literal.toString());
+
+            return new CompiledPattern(literals, expressions);
+        }
+
+        /**
+         * Expands this pattern.
+         *
+         * @param expressionExpander A function expanding a bracketed expression
+         * @return The expanded pattern. Not null.
+         */
+        String expand(Function<BracketExpression, String> expressionExpander) {
+            StringBuilder expandedPattern = new StringBuilder(literals.get(0));
+            for (int i = 0; i < expressions.size(); i++) {
+                expandedPattern.append(expressionExpander.apply(expressions.get(i)))
+                               .append(literals.get(i + 1));
+            }
+            return expandedPattern.toString();
+        }
+    }
+
+    /**
+     * The content of a bracketed expression, parsed into the field marker and its modifiers.
+     */
+    static class BracketExpression {
+        private final String fieldMarker;
+        private final Optional<Field> plainField;
+        private final List<Modifier> modifiers = new ArrayList<>();
+
+        private BracketExpression(String content) {
+            List<String> fieldParts = parseFieldAndModifiers(content);
+            this.fieldMarker = fieldParts.get(0);
+            this.plainField = getPlainField(fieldMarker);
+            for (String modifier : fieldParts.subList(1, fieldParts.size())) {
+                modifiers.add(new Modifier(modifier));
+            }
+        }
+
+        /**
+         * Evaluates the field marker of this expression, see {@link #getFieldValue(BibEntry, String, Character,
+         * BibDatabase)}.
+         */
+        String getFieldValue(BibEntry entry, Character keywordDelimiter, BibDatabase database) {
+            if (plainField.isPresent()) {
+                return entry.getResolvedFieldOrAlias(plainField.get(), database).orElse("");
+            }
+            return BracketedPattern.getFieldValue(entry, fieldMarker, keywordDelimiter, database);
+        }
+
+        /**
+         * Applies the modifiers of this expression, see {@link #applyModifiers(String, List, int, Function)}.
+         *
+         * @param label              The value of the field marker
+         * @param expressionExpander A function expanding the expressions of alternate texts
+         * @return The modified label.
+         */
+        String applyModifiers(String label, Function<BracketExpression, String> expressionExpander) {
+            String resultingLabel = label;
+            for (Modifier modifier : modifiers) {
+                if (modifier.abbreviate) {
+                    resultingLabel = abbreviate(resultingLabel);
+                } else if (modifier.formatter.isPresent()) {
+                    resultingLabel = modifier.formatter.get().format(resultingLabel);
+                } else if (modifier.alternateText.isPresent() && label.isEmpty()) {
+                    resultingLabel = modifier.alternateText.get().expand(expressionExpander);
+                }
+            }
+            return resultingLabel;
+        }
+    }
+
+    /**
+     * A modifier of a bracketed expression, with the formatter or the alternate text it stands for looked up once.
+     */
+    private static class Modifier {
+        private final boolean abbreviate;
+        private final Optional<Formatter> formatter;
+        private final Optional<CompiledPattern> alternateText;
+
+        private Modifier(String modifier) {
+            abbreviate = "abbr".equals(modifier);
+            formatter = abbreviate ? Optional.empty() : Formatters.getFormatterForModifier(modifier);
+            if (abbreviate || formatter.isPresent()) {
+                alternateText = Optional.empty();
+            } else if ((modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
+                // Alternate text modifier in parentheses. Should be inserted if the label is empty
+                alternateText = modifier.length() > 2
+                        ? Optional.of(CompiledPattern.compile(modifier.substring(1, modifier.length() - 1)))
+                        : Optional.empty();
+            } else {
+                LOGGER.warn("Key generator warning: unknown modifier '{}'.", modifier);
+                alternateText = Optional.empty();
+            }
+        }
+    }
+
     /**
      * Evaluates the given pattern to the given bibentry and database
      *
@@ -360,18 +524,18 @@ public class BracketedPattern {
                         return authshort(authorList);
                 }
 
-                if (pattern.matches("authIni[\\d]+")) {
+                if (AUTH_INI_N.matcher(pattern).matches()) {
                     int num = Integer.parseInt(pattern.substring(7));
                     return authIniN(authorList, num);
-                } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
+                } else if (AUTH_N_OF_M.matcher(pattern).matches()) {
                     String[] nums = pattern.substring(4).split("_");
                     return authNofMth(authorList, Integer.parseInt(nums[0]),
                             Integer.parseInt(nums[1]));
-                } else if (pattern.matches("auth\\d+")) {
+                } else if (AUTH_N.matcher(pattern).matches()) {
                     // authN. First N chars of the first author's last name.
                     int num = Integer.parseInt(pattern.substring(4));
                     return authN(authorList, num);
-                } else if (pattern.matches("authors\\d+")) {
+                } else if (AUTHORS_N.matcher(pattern).matches()) {
                     return nAuthors(authorList, Integer.parseInt(pattern.substring(7)));
                 } else {
                     // This "auth" business was a dead end, so just
@@ -403,15 +567,15 @@ public class BracketedPattern {
                         return authshort(editorList);
                 }
 
-                if (pattern.matches("edtrIni[\\d]+")) {
+                if (EDTR_INI_N.matcher(pattern).matches()) {
                     int num = Integer.parseInt(pattern.substring(7));
                     return authIniN(editorList, num);
-                } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
+                } else if (EDTR_N_OF_M.matcher(pattern).matches()) {
                     String[] nums = pattern.substring(4).split("_");
                     return authNofMth(editorList,
                             Integer.parseInt(nums[0]),
                             Integer.parseInt(nums[1]) - 1);
-                } else if (pattern.matches("edtr\\d+")) {
+                } else if (EDTR_N.matcher(pattern).matches()) {
                     String fa = firstAuthor(editorList);
                     int num = Integer.parseInt(pattern.substring(4));
                     if (num > fa.length()) {
@@ -459,7 +623,7 @@ public class BracketedPattern {
                 }
             } else if ("entrytype".equals(pattern)) {
                 return entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
-            } else if (pattern.matches("keyword\\d+")) {
+            } else if (KEYWORD_N.matcher(pattern).matches()) {
                 // according to LabelPattern.php, it returns keyword number n
                 int num = Integer.parseInt(pattern.substring(7));
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
@@ -470,7 +634,7 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (pattern.matches("keywords\\d*")) {
+            } else if (KEYWORDS_N.matcher(pattern).matches()) {
                 // return all keywords, not separated
                 int num;
                 if (pattern.length() > 8) {
@@ -501,6 +665,36 @@ public class BracketedPattern {
         }
     }
 
+    /**
+     * Returns the field whose value the given marker evaluates to, if the marker has no special meaning.
+     *
+     * @param fieldMarker a marker (such as year, auth, pureauth, authorLast)
+     * @return the field, or an empty Optional if the value of the marker has to be computed by {@link
+     * #getFieldValue(BibEntry, String, Character, BibDatabase)}
+     */
+    static Optional<Field> getPlainField(String fieldMarker) {
+        boolean special;
+        if (fieldMarker.startsWith("pureauth")) {
+            special = true;
+        } else if (fieldMarker.startsWith("auth")) {
+            special = AUTHOR_MARKERS.contains(fieldMarker)
+                    || AUTH_INI_N.matcher(fieldMarker).matches()
+                    || AUTH_N_OF_M.matcher(fieldMarker).matches()
+                    || AUTH_N.matcher(fieldMarker).matches()
+                    || AUTHORS_N.matcher(fieldMarker).matches();
+        } else if (fieldMarker.startsWith("ed")) {
+            special = EDITOR_MARKERS.contains(fieldMarker)
+                    || EDTR_INI_N.matcher(fieldMarker).matches()
+                    || EDTR_N_OF_M.matcher(fieldMarker).matches()
+                    || EDTR_N.matcher(fieldMarker).matches();
+        } else {
+            special = OTHER_MARKERS.contains(fieldMarker)
+                    || KEYWORD_N.matcher(fieldMarker).matches()
+                    || KEYWORDS_N.matcher(fieldMarker).matches();
+        }
+        return special ? Optional.empty() : Optional.of(FieldFactory.parseField(fieldMarker));
+    }
+
     /**
      * Parses the provided string to an {@link AuthorList}, which are then formatted by {@link LatexToUnicodeAdapter}.
      * Afterward, any institutions are formatted into an institution key.
@@ -554,16 +748,7 @@ public class BracketedPattern {
             String modifier = parts.get(j);
 
             if ("abbr".equals(modifier)) {
-                // Abbreviate - that is,
-                StringBuilder abbreviateSB = new StringBuilder();
-                String[] words = resultingLabel.replaceAll("[\\{\\}']", "")
-                                               .split("[\\(\\) \r\n\"]");
-                for (String word : words) {
-                    if (!word.isEmpty()) {
-                        abbreviateSB.append(word.charAt(0));
-                    }
-                }
-                resultingLabel = abbreviateSB.toString();
+                resultingLabel = abbreviate(resultingLabel);
             } else {
                 Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
                 if (formatter.isPresent()) {
@@ -582,6 +767,21 @@ public class BracketedPattern {
         return resultingLabel;
     }
 
+    /**
+     * Abbreviates the label to the first characters of its words.
+     */
+    private static String abbreviate(String label) {
+        StringBuilder abbreviateSB = new StringBuilder();
+        String[] words = label.replaceAll("[\\{\\}']", "")
+                              .split("[\\(\\) \r\n\"]");
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                abbreviateSB.append(word.charAt(0));
+            }
+        }
+        return abbreviateSB.toString();
+    }
+
     /**
      * Determines "number" words out of the "title" field in the given BibTeX entry
      */
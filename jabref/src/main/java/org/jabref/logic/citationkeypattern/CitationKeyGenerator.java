@@ -1,17 +1,25 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 
@@ -34,6 +42,9 @@ public class CitationKeyGenerator extends BracketedPattern {
     private final BibDatabase database;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
+    private final Optional<Pattern> keyPatternRegex;
+    // the patterns compiled so far by their string representation
+    private final Map<String, CompiledPattern> compiledPatterns = new ConcurrentHashMap<>();
 
     public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPattern(citationKeyPatternPreferences.getKeyPattern()),
@@ -46,6 +57,19 @@ public class CitationKeyGenerator extends BracketedPattern {
         this.database = Objects.requireNonNull(database);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
         this.unwantedCharacters = citationKeyPatternPreferences.getUnwantedCharacters();
+        this.keyPatternRegex = compileKeyPatternRegex(citationKeyPatternPreferences.getKeyPatternRegex());
+    }
+
+    private static Optional<Pattern> compileKeyPatternRegex(String regex) {
+        if ((regex == null) || regex.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Pattern.compile(regex));
+        } catch (PatternSyntaxException e) {
+            LOGGER.warn("There is a syntax error in the regular expression \"{}\" used to generate a citation key", regex, e);
+            return Optional.empty();
+        }
     }
 
     @Deprecated
@@ -123,6 +147,57 @@ public class CitationKeyGenerator extends BracketedPattern {
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    /**
+     * Generates citation keys for the given entries and sets them. The keys are the same as if {@link
+     * #generateAndSetKey(BibEntry)} was called for one entry after the other.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, entriesDone -> {
+        });
+    }
+
+    /**
+     * Generates citation keys for the given entries and sets them. The keys are the same as if {@link
+     * #generateAndSetKey(BibEntry)} was called for one entry after the other.
+     * <p>
+     * First, the pattern is expanded for all entries in parallel. Then, the keys are made unique and set in a single
+     * pass in the order of the entries. The citation key index of the database serves as the multiset of the keys in
+     * use, it is updated as soon as a key is set. Only an entry with a crossref is expanded again in this pass, because
+     * the key of the referenced entry may have changed in the meantime.
+     *
+     * @param entries          the entries to generate the keys for
+     * @param progressCallback receives the number of entries whose pattern has been expanded so far, after each entry.
+     *                         It is called from several threads, but never concurrently and with increasing numbers.
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progressCallback) {
+        Objects.requireNonNull(progressCallback);
+        AtomicInteger entriesExpanded = new AtomicInteger();
+        List<String> expandedKeys = entries.parallelStream()
+                                           .map(entry -> {
+                                               String expandedKey = replaceWithRegex(createCitationKeyFromPattern(entry));
+                                               synchronized (entriesExpanded) {
+                                                   progressCallback.accept(entriesExpanded.incrementAndGet());
+                                               }
+                                               return expandedKey;
+                                           })
+                                           .collect(Collectors.toList());
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            String newKey = entry.hasField(StandardField.CROSSREF)
+                    ? replaceWithRegex(createCitationKeyFromPattern(entry))
+                    : expandedKeys.get(i);
+            newKey = appendLettersToKey(newKey, entry.getCitationKey().orElse(null));
+            entry.setCitationKey(cleanKey(newKey, unwantedCharacters)).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
@@ -172,14 +247,8 @@ public class CitationKeyGenerator extends BracketedPattern {
      */
     private String replaceWithRegex(String key) {
         // Remove Regular Expressions while generating Keys
-        String regex = citationKeyPatternPreferences.getKeyPatternRegex();
-        if ((regex != null) && !regex.trim().isEmpty()) {
-            String replacement = citationKeyPatternPreferences.getKeyPatternReplacement();
-            try {
-                key = key.replaceAll(regex, replacement);
-            } catch (PatternSyntaxException e) {
-                LOGGER.warn("There is a syntax error in the regular expression \"{}\" used to generate a citation key", regex, e);
-            }
+        if (keyPatternRegex.isPresent()) {
+            key = keyPatternRegex.get().matcher(key).replaceAll(citationKeyPatternPreferences.getKeyPatternReplacement());
         }
         return key;
     }
@@ -192,7 +261,8 @@ public class CitationKeyGenerator extends BracketedPattern {
         if (citationKeyPattern.isEmpty()) {
             return "";
         }
-        return expandBrackets(citationKeyPattern.get(0), expandBracketContent(entry));
+        CompiledPattern compiledPattern = compiledPatterns.computeIfAbsent(citationKeyPattern.get(0), CompiledPattern::compile);
+        return compiledPattern.expand(expandBracketExpression(entry));
     }
 
     /**
@@ -201,20 +271,13 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @param entry the {@link BibEntry} that a citation key is generated for
      * @return a cleaned citation key for the given {@link BibEntry}
      */
-    private Function<String, String> expandBracketContent(BibEntry entry) {
+    private Function<BracketExpression, String> expandBracketExpression(BibEntry entry) {
         Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
 
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database), unwantedCharacters);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
-            }
+        return (BracketExpression expression) -> {
+            String expandedPattern = removeUnwantedCharacters(expression.getFieldValue(entry, keywordDelimiter, database), unwantedCharacters);
+            // apply modifiers such as ":lower"
+            expandedPattern = expression.applyModifiers(expandedPattern, expandBracketExpression(entry));
             return cleanKey(expandedPattern, unwantedCharacters);
         };
     }
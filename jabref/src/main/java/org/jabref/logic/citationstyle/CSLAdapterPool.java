@@ -0,0 +1,256 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of {@link CSLAdapter}s, so that citations in different styles or for different callers can be generated
+ * in parallel. Creating the CSL engine of a style is expensive, thus idle adapters are kept together with the style and
+ * output format they were used for last and are handed out again for the same style and format.
+ * <p>
+ * At most {@link #getMaxAdapters()} adapters exist. If all of them are in use, {@link #borrow} waits until one is
+ * released. If a new adapter is needed while all adapters are idle, but bound to other styles, the least recently used
+ * one is dropped. Adapters that were not used for {@link #IDLE_TIMEOUT_MINUTES} minutes are dropped as well.
+ */
+class CSLAdapterPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapterPool.class);
+
+    private static final int IDLE_TIMEOUT_MINUTES = 5;
+
+    private final int maxAdapters;
+    private final long idleTimeoutMillis;
+    private final Semaphore available;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // guarded by this
+    private final Map<Key, Deque<IdleAdapter>> idleAdapters = new HashMap<>();
+    private int numberOfAdapters = 0;
+
+    CSLAdapterPool() {
+        this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), TimeUnit.MINUTES.toMillis(IDLE_TIMEOUT_MINUTES));
+    }
+
+    CSLAdapterPool(int maxAdapters, long idleTimeoutMillis) {
+        this.maxAdapters = maxAdapters;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.available = new Semaphore(maxAdapters, true);
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("JabRef CSL engines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::evictIdleAdapters, IDLE_TIMEOUT_MINUTES, 1, TimeUnit.MINUTES);
+    }
+
+    int getMaxAdapters() {
+        return maxAdapters;
+    }
+
+    synchronized int getNumberOfAdapters() {
+        return numberOfAdapters;
+    }
+
+    /**
+     * Takes an adapter out of the pool. It has to be handed back using {@link #release} after use.
+     * <p>
+     * Adapters which were last used for the same style are preferred, as switching the output format is cheap.
+     */
+    CSLAdapter borrow(String style, CitationStyleOutputFormat outputFormat) throws InterruptedException {
+        available.acquire();
+        return take(style, outputFormat);
+    }
+
+    private CSLAdapter take(String style, CitationStyleOutputFormat outputFormat) {
+        synchronized (this) {
+            IdleAdapter idleAdapter = takeIdle(new Key(style, outputFormat));
+            if (idleAdapter == null) {
+                idleAdapter = takeIdleWithStyle(style);
+            }
+            if (idleAdapter != null) {
+                return idleAdapter.adapter();
+            }
+            if (numberOfAdapters >= maxAdapters) {
+                // all other adapters are idle, as this thread holds a permit
+                dropLeastRecentlyUsed();
+            }
+            numberOfAdapters++;
+        }
+        return new CSLAdapter();
+    }
+
+    /**
+     * Puts an adapter back into the pool.
+     *
+     * @param style        the style the adapter was used for last
+     * @param outputFormat the output format the adapter was used for last
+     */
+    void release(CSLAdapter adapter, String style, CitationStyleOutputFormat outputFormat) {
+        synchronized (this) {
+            idleAdapters.computeIfAbsent(new Key(style, outputFormat), key -> new ArrayDeque<>())
+                        .addLast(new IdleAdapter(adapter, System.currentTimeMillis()));
+        }
+        available.release();
+    }
+
+    /**
+     * Prepares an adapter for the given style in the background, so that the first citation in that style does not
+     * have to wait for the CSL engine to be created.
+     */
+    void warmUp(String style, CitationStyleOutputFormat outputFormat) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            synchronized (this) {
+                if (idleAdapters.containsKey(new Key(style, outputFormat))) {
+                    return;
+                }
+            }
+            if (!available.tryAcquire()) {
+                // all adapters are busy, there is nothing to gain from waiting
+                return;
+            }
+            CSLAdapter adapter = take(style, outputFormat);
+            try {
+                adapter.initialize(style, outputFormat);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Could not warm up CSL engine", e);
+            } finally {
+                release(adapter, style, outputFormat);
+            }
+        });
+    }
+
+    /**
+     * Stops the background thread of this pool. Adapters can still be borrowed afterwards, but they are neither warmed
+     * up nor evicted anymore.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Drops all adapters which were idle for longer than the idle timeout.
+     */
+    synchronized void evictIdleAdapters() {
+        long oldestAllowed = System.currentTimeMillis() - idleTimeoutMillis;
+        Iterator<Deque<IdleAdapter>> iterator = idleAdapters.values().iterator();
+        while (iterator.hasNext()) {
+            Deque<IdleAdapter> adapters = iterator.next();
+            // adapters are released at the end, thus the oldest ones are at the front
+            while (!adapters.isEmpty() && (adapters.peekFirst().idleSince() < oldestAllowed)) {
+                adapters.pollFirst();
+                numberOfAdapters--;
+            }
+            if (adapters.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private IdleAdapter takeIdle(Key key) {
+        Deque<IdleAdapter> adapters = idleAdapters.get(key);
+        if (adapters == null) {
+            return null;
+        }
+        // the most recently used adapter is the least likely to be evicted soon
+        IdleAdapter adapter = adapters.pollLast();
+        if (adapters.isEmpty()) {
+            idleAdapters.remove(key);
+        }
+        return adapter;
+    }
+
+    private IdleAdapter takeIdleWithStyle(String style) {
+        for (Key key : idleAdapters.keySet()) {
+            if (key.style().equals(style)) {
+                return takeIdle(key);
+            }
+        }
+        return null;
+    }
+
+    private void dropLeastRecentlyUsed() {
+        Key leastRecentlyUsed = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<Key, Deque<IdleAdapter>> entry : idleAdapters.entrySet()) {
+            long idleSince = entry.getValue().peekFirst().idleSince();
+            if (idleSince < oldest) {
+                oldest = idleSince;
+                leastRecentlyUsed = entry.getKey();
+            }
+        }
+        if (leastRecentlyUsed != null) {
+            Deque<IdleAdapter> adapters = idleAdapters.get(leastRecentlyUsed);
+            adapters.pollFirst();
+            if (adapters.isEmpty()) {
+                idleAdapters.remove(leastRecentlyUsed);
+            }
+            numberOfAdapters--;
+        }
+    }
+
+    private static class Key {
+
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+
+        Key(String style, CitationStyleOutputFormat outputFormat) {
+            this.style = Objects.requireNonNull(style);
+            this.outputFormat = Objects.requireNonNull(outputFormat);
+        }
+
+        String style() {
+            return style;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            Key other = (Key) o;
+            return style.equals(other.style) && (outputFormat == other.outputFormat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, outputFormat);
+        }
+    }
+
+    private static class IdleAdapter {
+
+        private final CSLAdapter adapter;
+        private final long idleSince;
+
+        IdleAdapter(CSLAdapter adapter, long idleSince) {
+            this.adapter = adapter;
+            this.idleSince = idleSince;
+        }
+
+        CSLAdapter adapter() {
+            return adapter;
+        }
+
+        long idleSince() {
+            return idleSince;
+        }
+    }
+}
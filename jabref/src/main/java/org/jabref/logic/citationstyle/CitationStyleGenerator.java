@@ -1,24 +1,31 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
+import com.google.common.collect.Lists;
 import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses {@link CSLAdapter}s from a {@link CSLAdapterPool} to create output, thus several
+ * citations can be generated at the same time.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool();
+
+    // Below this number of entries per engine, preparing another engine takes longer than it saves
+    private static final int MIN_ENTRIES_PER_SHARD = 50;
 
     private CitationStyleGenerator() {
     }
@@ -51,13 +58,84 @@ public class CitationStyleGenerator {
     }
 
     /**
-     * Generates the citation for multiple entries at once.
+     * Generates the citation for multiple entries at once. The entries form one bibliography, thus they are sorted and
+     * numbered together and have to be generated by a single engine. See {@link #generateCitationsPerEntry} for
+     * independent citations.
      *
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        CSLAdapter adapter;
+        try {
+            adapter = CSL_ADAPTER_POOL.borrow(style, outputFormat);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
+        }
+        try {
+            return makeBibliography(adapter, bibEntries, style, outputFormat);
+        } finally {
+            CSL_ADAPTER_POOL.release(adapter, style, outputFormat);
+        }
+    }
+
+    /**
+     * Generates the citation of each of the given entries on its own, as it is done for the preview. In contrast to
+     * {@link #generateCitations}, the entries do not form one bibliography: they are neither sorted nor numbered
+     * together. Thus, large batches are split into shards which are generated in parallel by several engines. Use it
+     * only if the citations do not have to be numbered or sorted as one bibliography, e.g., for the previews of
+     * several entries.
+     *
+     * @return the citations in the order of the given entries
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<String> generateCitationsPerEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        int numberOfShards = Math.max(1, Math.min(CSL_ADAPTER_POOL.getMaxAdapters(), bibEntries.size() / MIN_ENTRIES_PER_SHARD));
+        int shardSize = Math.max(1, (bibEntries.size() + numberOfShards - 1) / numberOfShards);
+        return Lists.partition(bibEntries, shardSize)
+                    .parallelStream()
+                    .map(shard -> generateShard(shard, style, outputFormat))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * Prepares a CSL engine for the given style in the background.
+     */
+    public static void warmUp(String style, CitationStyleOutputFormat outputFormat) {
+        CSL_ADAPTER_POOL.warmUp(style, outputFormat);
+    }
+
+    /**
+     * Stops the background thread which prepares and evicts CSL engines. Call it when shutting down JabRef.
+     */
+    public static void shutdown() {
+        CSL_ADAPTER_POOL.shutdown();
+    }
+
+    private static List<String> generateShard(List<BibEntry> shard, String style, CitationStyleOutputFormat outputFormat) {
+        List<String> citations = new ArrayList<>(shard.size());
+        CSLAdapter adapter;
+        try {
+            adapter = CSL_ADAPTER_POOL.borrow(style, outputFormat);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shard.forEach(entry -> citations.add(Localization.lang("Cannot generate preview based on selected citation style.")));
+            return citations;
+        }
+        try {
+            for (BibEntry entry : shard) {
+                citations.add(makeBibliography(adapter, Collections.singletonList(entry), style, outputFormat).stream().findFirst().orElse(""));
+            }
+        } finally {
+            CSL_ADAPTER_POOL.release(adapter, style, outputFormat);
+        }
+        return citations;
+    }
+
+    private static List<String> makeBibliography(CSLAdapter adapter, List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            return adapter.makeBibliography(bibEntries, style, outputFormat);
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", ignored);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
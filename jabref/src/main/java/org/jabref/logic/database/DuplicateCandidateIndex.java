@@ -0,0 +1,192 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups entries into blocks of plausible duplicates, so that {@link DuplicateCheck} only has to compare entries
+ * sharing a block instead of all pairs of entries.
+ * <p>
+ * The blocks are:
+ * <ul>
+ *     <li>entries with the same DOI, ISBN, eprint or PubMed ID,</li>
+ *     <li>entries of the same type with the same normalized title or with similar titles, found by MinHash on the
+ *     character trigrams of the title,</li>
+ *     <li>entries of the same type with the same last name of the first author (or editor) and the same year.</li>
+ * </ul>
+ * Blocks that are not based on an identifier and contain more than {@link #MAX_BLOCK_SIZE} entries (e.g., a very
+ * common title like "Introduction") are dropped, as they do not narrow down the candidates.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateCandidateIndex.class);
+
+    private static final int MAX_BLOCK_SIZE = 500;
+
+    // 8 bands of 2 MinHash values each: titles with a trigram similarity of 0.5 share a band with a probability of 0.9
+    private static final int BANDS = 8;
+    private static final int ROWS_PER_BAND = 2;
+    private static final long[] MIN_HASH_SEEDS = new long[BANDS * ROWS_PER_BAND];
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String IDENTIFIER_PREFIX = "id:";
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+            seed = mix(seed + i);
+            MIN_HASH_SEEDS[i] = seed;
+        }
+    }
+
+    private final List<BibEntry> entries;
+    private final List<Set<String>> keysOfEntries;
+    private final Map<String, List<Integer>> blocks = new HashMap<>();
+
+    /**
+     * Computes the blocks of the given entries. The keys of the entries are computed in parallel.
+     */
+    public DuplicateCandidateIndex(List<BibEntry> entries) {
+        this.entries = List.copyOf(entries);
+        this.keysOfEntries = this.entries.parallelStream()
+                                         .map(DuplicateCandidateIndex::getBlockingKeys)
+                                         .collect(Collectors.toList());
+        for (int i = 0; i < keysOfEntries.size(); i++) {
+            for (String key : keysOfEntries.get(i)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        int blocksBefore = blocks.size();
+        blocks.entrySet().removeIf(block -> !block.getKey().startsWith(IDENTIFIER_PREFIX) && (block.getValue().size() > MAX_BLOCK_SIZE));
+        LOGGER.debug("Grouped {} entries into {} blocks, dropped {} blocks that were too large", this.entries.size(), blocks.size(), blocksBefore - blocks.size());
+    }
+
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entries of the index that share a block with the given entry, in the order of the index. The given
+     * entry itself is not part of the result.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        BitSet candidates = new BitSet(entries.size());
+        for (String key : getBlockingKeys(entry)) {
+            List<Integer> block = blocks.get(key);
+            if (block != null) {
+                block.forEach(candidates::set);
+            }
+        }
+
+        List<BibEntry> result = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (entries.get(i) != entry) {
+                result.add(entries.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions of the entries sharing a block with the entry at the given position, restricted to
+     * the entries following it. Thus, each pair of candidates is returned once.
+     */
+    BitSet getCandidatesAfter(int position) {
+        BitSet candidates = new BitSet(entries.size());
+        for (String key : keysOfEntries.get(position)) {
+            List<Integer> block = blocks.get(key);
+            if (block != null) {
+                for (int other : block) {
+                    if (other > position) {
+                        candidates.set(other);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add(IDENTIFIER_PREFIX + field.getName() + ':' + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add(IDENTIFIER_PREFIX + "doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add(IDENTIFIER_PREFIX + "isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        // entries of different types are no duplicates unless they share an identifier
+        String type = entry.getType().getName() + ':';
+
+        entry.getField(StandardField.TITLE).map(DuplicateCandidateIndex::normalize).filter(title -> !title.isEmpty()).ifPresent(title -> {
+            keys.add("title:" + type + title);
+            long[] minHashes = minHashes(title);
+            for (int band = 0; band < BANDS; band++) {
+                StringBuilder key = new StringBuilder("similar-title:").append(type).append(band);
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    key.append(':').append(Long.toHexString(minHashes[(band * ROWS_PER_BAND) + row]));
+                }
+                keys.add(key.toString());
+            }
+        });
+
+        // entries without a year are grouped by the name only
+        String year = entry.getFieldOrAlias(StandardField.YEAR).map(String::trim).orElse("");
+        Optional<String> firstLastName = entry.getField(StandardField.AUTHOR)
+                                              .or(() -> entry.getField(StandardField.EDITOR))
+                                              .map(AuthorList::parse)
+                                              .filter(authors -> !authors.isEmpty())
+                                              .flatMap(authors -> authors.getAuthor(0).getLast())
+                                              .map(DuplicateCandidateIndex::normalize)
+                                              .filter(lastName -> !lastName.isEmpty());
+        firstLastName.ifPresent(lastName -> keys.add("author-year:" + type + lastName + ':' + year));
+
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return NON_ALPHANUMERIC.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static long[] minHashes(String title) {
+        long[] minHashes = new long[MIN_HASH_SEEDS.length];
+        Arrays.fill(minHashes, Long.MAX_VALUE);
+        int numberOfTrigrams = Math.max(1, title.length() - 2);
+        for (int start = 0; start < numberOfTrigrams; start++) {
+            int trigram = title.substring(start, Math.min(title.length(), start + 3)).hashCode();
+            for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+                minHashes[i] = Math.min(minHashes[i], mix(trigram ^ MIN_HASH_SEEDS[i]));
+            }
+        }
+        return minHashes;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreads the bits of the given value over the whole result.
+     */
+    private static long mix(long value) {
+        long result = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        result = (result ^ (result >>> 27)) * 0x94D049BB133111EBL;
+        return result ^ (result >>> 31);
+    }
+}
@@ -1,14 +1,18 @@
 package org.jabref.logic.database;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.strings.StringSimilarity;
@@ -384,4 +388,50 @@ public class DuplicateCheck {
 
         return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
+
+    /**
+     * Looks for a duplicate of the given entry among the candidates the index returns for it, see {@link
+     * DuplicateCandidateIndex#getCandidates(BibEntry)}. In contrast to {@link #containsDuplicate(BibDatabase,
+     * BibEntry, BibDatabaseMode)}, only entries sharing a block with the given entry are compared.
+     *
+     * @param candidateIndex The index of the entries to search.
+     * @param entry          The entry of which we are looking for duplicates.
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateCandidateIndex candidateIndex,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return candidateIndex.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    }
+
+    /**
+     * Finds all pairs of duplicates among the given entries. Only pairs of entries that share a block of the {@link
+     * DuplicateCandidateIndex} are compared, and the comparisons run in parallel.
+     * <p>
+     * The consumer is called from several threads as soon as a pair is found. The first entry of a pair always
+     * precedes the second entry in the given list. The search stops early if the calling thread is interrupted.
+     *
+     * @param entries           The entries to search.
+     * @param duplicateConsumer Receives each pair of duplicates.
+     */
+    public void findDuplicates(final List<BibEntry> entries,
+                               final BibDatabaseMode bibDatabaseMode,
+                               final BiConsumer<BibEntry, BibEntry> duplicateConsumer) {
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(entries);
+        List<BibEntry> indexedEntries = candidateIndex.getEntries();
+        Thread caller = Thread.currentThread();
+        IntStream.range(0, indexedEntries.size()).parallel().forEach(position -> {
+            if (caller.isInterrupted()) {
+                return;
+            }
+            BibEntry first = indexedEntries.get(position);
+            BitSet candidates = candidateIndex.getCandidatesAfter(position);
+            for (int other = candidates.nextSetBit(0); other >= 0; other = candidates.nextSetBit(other + 1)) {
+                BibEntry second = indexedEntries.get(other);
+                if (isDuplicate(first, second, bibDatabaseMode)) {
+                    duplicateConsumer.accept(first, second);
+                }
+            }
+        });
+    }
 }
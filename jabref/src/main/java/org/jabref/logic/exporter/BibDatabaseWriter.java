@@ -188,11 +188,13 @@ public abstract class BibDatabaseWriter {
 
         // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, savePreferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
-        saveActionsFieldChanges.addAll(saveActionChanges);
-        if (savePreferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
-            saveActionsFieldChanges.addAll(keyChanges);
+        try (BibDatabase.BatchEdit batchEdit = bibDatabaseContext.startBatchEdit()) {
+            List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
+            saveActionsFieldChanges.addAll(saveActionChanges);
+            if (savePreferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving()) {
+                List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
+                saveActionsFieldChanges.addAll(keyChanges);
+            }
         }
 
         // Map to collect entry type definitions that we must save along with entries using them.
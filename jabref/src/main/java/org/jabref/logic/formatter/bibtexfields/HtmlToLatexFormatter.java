@@ -1,7 +1,6 @@
 package org.jabref.logic.formatter.bibtexfields;
 
 import java.util.Objects;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -9,6 +8,7 @@ import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +23,10 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
     private static final Pattern ESCAPED_PATTERN2 = Pattern.compile("(.)&#([x]*)([0]*)(\\p{XDigit}+);");
     private static final Pattern ESCAPED_PATTERN3 = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
     private static final Pattern ESCAPED_PATTERN4 = Pattern.compile("&(\\w+);");
+    private static final Pattern SUPERSCRIPT = Pattern.compile("<[ ]?sup>([^<]+)</sup>");
+    private static final Pattern SUBSCRIPT = Pattern.compile("<[ ]?sub>([^<]+)</sub>");
+
+    private static final ReplacementTable HTML_TO_LATEX = new ReplacementTable(HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP);
 
     @Override
     public String format(String text) {
@@ -34,8 +38,8 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
 
         StringBuilder sb = new StringBuilder();
         // Deal with the form <sup>k</sup>and <sub>k</sub>
-        result = result.replaceAll("<[ ]?sup>([^<]+)</sup>", "\\\\textsuperscript\\{$1\\}");
-        result = result.replaceAll("<[ ]?sub>([^<]+)</sub>", "\\\\textsubscript\\{$1\\}");
+        result = SUPERSCRIPT.matcher(result).replaceAll("\\\\textsuperscript\\{$1\\}");
+        result = SUBSCRIPT.matcher(result).replaceAll("\\\\textsubscript\\{$1\\}");
 
         // TODO: maybe rewrite this based on regular expressions instead
         // Note that (at least) the IEEE Xplore fetcher must be fixed as it relies on the current way to
@@ -53,10 +57,7 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
         result = sb.toString();
 
         // Handle text based HTML entities
-        Set<String> patterns = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.keySet();
-        for (String pattern : patterns) {
-            result = result.replace(pattern, HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(pattern));
-        }
+        result = HTML_TO_LATEX.replace(result);
 
         // Handle numerical HTML entities
         Matcher m = ESCAPED_PATTERN.matcher(result);
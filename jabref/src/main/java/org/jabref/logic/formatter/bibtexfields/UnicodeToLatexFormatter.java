@@ -1,12 +1,12 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +15,8 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnicodeToLatexFormatter.class);
 
+    private static final ReplacementTable UNICODE_TO_LATEX = new ReplacementTable(HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP);
+
     @Override
     public String format(String text) {
         String result = Objects.requireNonNull(text);
@@ -24,10 +26,7 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
         }
 
         // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        result = UNICODE_TO_LATEX.replace(result);
 
         // Combining accents
         StringBuilder sb = new StringBuilder();
@@ -1,14 +1,21 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.jabref.gui.JabRefExecutorService;
 import org.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
@@ -37,13 +44,22 @@ import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.FileHelper;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.GeneralPreferences;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
+    // the number of characters read to guess the format of a file
+    private static final int FORMAT_HEAD_LENGTH = 64 * 1024;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -171,10 +187,10 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import a file by iterating through the available import filters,
-     * and keeping the import that seems most promising.
+     * Tries to import a file by guessing its format from the beginning of the file, and keeping the import that seems
+     * most promising.
      * <p/>
-     * This method first attempts to read this file as bibtex.
+     * If no importer succeeds, this method attempts to read this file as bibtex.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -182,7 +198,9 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath, generalPreferences.getDefaultEncoding()), importer -> importer.isRecognizedFormat(filePath, generalPreferences.getDefaultEncoding()));
+            Charset encoding = generalPreferences.getDefaultEncoding();
+            List<FormatCandidate> candidates = getFormatCandidates(filePath, encoding);
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(candidates, importer -> importer.importDatabase(filePath, encoding));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -203,50 +221,163 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Reads the beginning of the file once and lets all importers check it.
      *
-     * @param importDatabase     the function to import the entries with a formatter
-     * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
-     * @return an UnknownFormatImport with the imported entries and metadata
-     * @throws ImportException if the import fails (for example, if no suitable importer is found)
+     * @return the importers recognizing the file, the most promising first
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
-
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
+    private List<FormatCandidate> getFormatCandidates(Path filePath, Charset encoding) throws ImportException {
+        String head;
+        boolean complete;
+        try (BufferedReader reader = Importer.getReader(filePath, encoding)) {
+            char[] buffer = new char[FORMAT_HEAD_LENGTH];
+            int length = 0;
+            int read = 0;
+            while ((length < buffer.length) && ((read = reader.read(buffer, length, buffer.length - length)) != -1)) {
+                length += read;
+            }
+            head = new String(buffer, 0, length);
+            complete = (read == -1) || (reader.read() == -1);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+
+        Optional<String> extension = FileHelper.getFileExtension(filePath);
+        return getFormatCandidates(importer -> importer.isRecognizedFormat(filePath, encoding, head, complete), extension);
+    }
+
+    /**
+     * Scores all importers recognizing the source. Importers with a characteristic format score higher than importers
+     * accepting any source, importers of files with the extension of the source score higher than the others.
+     *
+     * @return the importers recognizing the source, the most promising first
+     */
+    private List<FormatCandidate> getFormatCandidates(CheckedFunction<Importer, Boolean> isRecognizedFormat, Optional<String> extension) {
+        List<FormatCandidate> candidates = new ArrayList<>();
+        for (Importer importer : formats) {
             try {
-                if (!isRecognizedFormat.apply(imFo)) {
+                if (!isRecognizedFormat.apply(importer)) {
                     continue;
                 }
+            } catch (IOException e) {
+                // The check did not succeed. Go on.
+                continue;
+            }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+            boolean matchingExtension = extension.isPresent() && importer.getFileType().getExtensions().contains(extension.get());
+            candidates.add(new FormatCandidate(importer, !importer.acceptsAnyFormat(), matchingExtension));
+        }
+        // The sort is stable, thus candidates with the same score stay in the order of the importers
+        candidates.sort(Comparator.comparingInt(FormatCandidate::getScore).reversed());
+        return candidates;
+    }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+    /**
+     * Imports the source with the most promising candidates. All candidates with the best score are run in parallel and
+     * the one importing the most entries is kept. Candidates with a lower score are run only if the better ones did not
+     * import any entry.
+     *
+     * @param candidates     the importers recognizing the source, the most promising first
+     * @param importDatabase the function to import the entries with a formatter
+     * @return an UnknownFormatImport with the imported entries and metadata
+     * @throws ImportException if the import fails (for example, if no suitable importer is found)
+     */
+    private UnknownFormatImport importUnknownFormat(List<FormatCandidate> candidates, CheckedFunction<Importer, ParserResult> importDatabase) throws ImportException {
+        int start = 0;
+        while (start < candidates.size()) {
+            int end = start + 1;
+            while ((end < candidates.size()) && (candidates.get(end).getScore() == candidates.get(start).getScore())) {
+                end++;
+            }
+            List<FormatCandidate> tiedCandidates = candidates.subList(start, end);
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+            List<Future<List<BibEntry>>> imports = new ArrayList<>(tiedCandidates.size());
+            for (FormatCandidate candidate : tiedCandidates) {
+                imports.add(JabRefExecutorService.INSTANCE.execute(() -> importEntries(candidate, importDatabase)));
+            }
+            try {
+                Optional<FormatCandidate> winner = Optional.empty();
+                List<BibEntry> winnerEntries = Collections.emptyList();
+                for (int i = 0; i < tiedCandidates.size(); i++) {
+                    // On the same number of entries, the first candidate wins
+                    List<BibEntry> entries = getImportedEntries(imports.get(i));
+                    if (entries.size() > winnerEntries.size()) {
+                        winner = Optional.of(tiedCandidates.get(i));
+                        winnerEntries = entries;
+                    }
                 }
-            } catch (IOException ex) {
+                if (winner.isPresent()) {
+                    return createUnknownFormatImport(winner.get(), winnerEntries, candidates);
+                }
+            } catch (InterruptedException e) {
+                // Importers which do not check for interruption run to their end, their results are discarded
+                imports.forEach(entriesImport -> entriesImport.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ImportException(e);
+            }
+            start = end;
+        }
+
+        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    }
+
+    private static List<BibEntry> importEntries(FormatCandidate candidate, CheckedFunction<Importer, ParserResult> importDatabase) throws IOException {
+        List<BibEntry> entries = importDatabase.apply(candidate.getImporter()).getDatabase().getEntries();
+        BibDatabases.purgeEmptyEntries(entries);
+        return entries;
+    }
+
+    /**
+     * @return the imported entries, or an empty list if the import did not succeed
+     */
+    private static List<BibEntry> getImportedEntries(Future<List<BibEntry>> entriesImport) throws InterruptedException {
+        try {
+            return entriesImport.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
                 // The import did not succeed. Go on.
+                return Collections.emptyList();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw new IllegalStateException("Importer failed", e.getCause());
         }
+    }
+
+    private static UnknownFormatImport createUnknownFormatImport(FormatCandidate winner, List<BibEntry> entries, List<FormatCandidate> candidates) {
+        LOGGER.debug("Imported {} entries as {} ({}), candidates were {}", entries.size(), winner.getImporter().getName(), winner, candidates);
+        return new UnknownFormatImport(winner.getImporter().getName(), new ParserResult(entries));
+    }
+
+    /**
+     * An importer recognizing a source of unknown format, see {@link #getFormatCandidates}.
+     */
+    private static class FormatCandidate {
+
+        private final Importer importer;
+        private final boolean characteristicFormat;
+        private final boolean matchingExtension;
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+        FormatCandidate(Importer importer, boolean characteristicFormat, boolean matchingExtension) {
+            this.importer = importer;
+            this.characteristicFormat = characteristicFormat;
+            this.matchingExtension = matchingExtension;
         }
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+        Importer getImporter() {
+            return importer;
+        }
+
+        int getScore() {
+            return (characteristicFormat ? 2 : 0) + (matchingExtension ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return importer.getName() + ": "
+                    + (characteristicFormat ? "recognized format" : "accepts any format")
+                    + (matchingExtension ? ", matching file extension" : "");
+        }
     }
 
     @FunctionalInterface
@@ -266,6 +397,7 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        List<FormatCandidate> candidates = getFormatCandidates(importer -> importer.isRecognizedFormat(data), Optional.empty());
+        return importUnknownFormat(candidates, importer -> importer.importDatabase(data));
     }
 }
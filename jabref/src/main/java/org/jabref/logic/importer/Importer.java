@@ -1,6 +1,7 @@
 package org.jabref.logic.importer;
 
 import java.io.BufferedReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -45,6 +46,61 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether a file is in the correct format for this importer, given the beginning of the file.
+     * <p>
+     * This method is used when guessing the format of a file: the beginning of the file is read once and checked by all
+     * importers. By default, the result is the same as the one of {@link #isRecognizedFormat(Path, Charset)}:
+     * <ul><li>
+     *   if an importer overrides {@link #isRecognizedFormat(Path, Charset)}, e.g., to check a binary file, that method is
+     *   called
+     * </li><li>
+     *   otherwise, the beginning is checked by {@link #isRecognizedFormat(BufferedReader)}. If that check reads up to the
+     *   end of an incomplete beginning, the file is checked instead.
+     * </li></ul>
+     *
+     * @param filePath the path of the file to check
+     * @param encoding the encoding of the file
+     * @param head     the beginning of the file
+     * @param complete whether the head is the complete file
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(Path filePath, Charset encoding, String head, boolean complete) throws IOException {
+        if (checksFile()) {
+            return isRecognizedFormat(filePath, encoding);
+        }
+        if (complete) {
+            return isRecognizedFormat(head);
+        }
+
+        HeadReader headReader = new HeadReader(head);
+        try (BufferedReader bufferedReader = new BufferedReader(headReader)) {
+            boolean recognized = isRecognizedFormat(bufferedReader);
+            if (!headReader.isEndReached()) {
+                // The check did not need more than the beginning
+                return recognized;
+            }
+        }
+        return isRecognizedFormat(filePath, encoding);
+    }
+
+    private boolean checksFile() {
+        try {
+            return getClass().getMethod("isRecognizedFormat", Path.class, Charset.class).getDeclaringClass() != Importer.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Importer does not declare isRecognizedFormat(Path, Charset)", e);
+        }
+    }
+
+    /**
+     * Returns whether {@link #isRecognizedFormat(BufferedReader)} accepts any source, because the format has no
+     * characteristic to check. Such an importer is tried only after the importers which recognized a source.
+     */
+    public boolean acceptsAnyFormat() {
+        return false;
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
@@ -202,4 +258,34 @@ public abstract class Importer implements Comparable<Importer> {
     public int compareTo(Importer o) {
         return getName().compareTo(o.getName());
     }
+
+    /**
+     * Reads the beginning of a file and remembers whether a reader tried to read beyond it.
+     */
+    private static class HeadReader extends FilterReader {
+
+        private boolean endReached;
+
+        HeadReader(String head) {
+            super(new StringReader(head));
+        }
+
+        boolean isEndReached() {
+            return endReached;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            endReached |= read == -1;
+            return read;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            endReached |= read == -1;
+            return read;
+        }
+    }
 }
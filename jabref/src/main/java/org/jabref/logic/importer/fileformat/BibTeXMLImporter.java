@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.JAXBContext;
@@ -19,11 +20,13 @@ import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.bibtexml.Entry;
-import org.jabref.logic.importer.fileformat.bibtexml.File;
 import org.jabref.logic.importer.fileformat.bibtexml.Inbook;
 import org.jabref.logic.importer.fileformat.bibtexml.Incollection;
 import org.jabref.logic.util.StandardFileType;
@@ -52,6 +55,10 @@ public class BibTeXMLImporter extends Importer {
     private static final List<String> IGNORED_METHODS = Arrays.asList("getClass", "getAnnotate", "getContents",
             "getPrice", "getSize", "getChapter");
 
+    private static final String ENTRY_ELEMENT = "entry";
+
+    private Unmarshaller unmarshaller;
+
     @Override
     public String getName() {
         return "BibTeXML";
@@ -86,74 +93,108 @@ public class BibTeXMLImporter extends Importer {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.bibtexml");
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            File file = (File) unmarshaller.unmarshal(reader);
+            importEntries(reader, bibItems::add);
+        } catch (JAXBException | XMLStreamException e) {
+            LOGGER.error("Error with XML parser configuration", e);
+            return ParserResult.fromError(e);
+        }
+        return new ParserResult(bibItems);
+    }
 
-            List<Entry> entries = file.getEntry();
-            Map<Field, String> fields = new HashMap<>();
+    /**
+     * Imports the entries of the given file one after another. Instead of unmarshalling the whole file, the reader is
+     * advanced to each entry, which is unmarshalled and converted on its own. Thus, only one entry is held in memory at
+     * a time, even for large files.
+     *
+     * @param entryConsumer receives each entry as soon as it is converted, e.g., to insert it into a database
+     *                      incrementally
+     */
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws JAXBException, XMLStreamException {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(entryConsumer);
 
-            for (Entry entry : entries) {
-                BibEntry bibEntry = new BibEntry();
-                if (entry.getArticle() != null) {
-                    bibEntry.setType(StandardEntryType.Article);
-                    parse(entry.getArticle(), fields);
-                } else if (entry.getBook() != null) {
-                    bibEntry.setType(StandardEntryType.Book);
-                    parse(entry.getBook(), fields);
-                } else if (entry.getBooklet() != null) {
-                    bibEntry.setType(StandardEntryType.Booklet);
-                    parse(entry.getBooklet(), fields);
-                } else if (entry.getConference() != null) {
-                    bibEntry.setType(StandardEntryType.Conference);
-                    parse(entry.getConference(), fields);
-                } else if (entry.getInbook() != null) {
-                    bibEntry.setType(StandardEntryType.InBook);
-                    parseInbook(entry.getInbook(), fields);
-                } else if (entry.getIncollection() != null) {
-                    bibEntry.setType(StandardEntryType.InCollection);
-                    Incollection incollection = entry.getIncollection();
-                    if (incollection.getChapter() != null) {
-                        fields.put(StandardField.CHAPTER, String.valueOf(incollection.getChapter()));
-                    }
-                    parse(incollection, fields);
-                } else if (entry.getInproceedings() != null) {
-                    bibEntry.setType(StandardEntryType.InProceedings);
-                    parse(entry.getInproceedings(), fields);
-                } else if (entry.getManual() != null) {
-                    bibEntry.setType(StandardEntryType.Manual);
-                    parse(entry.getManual(), fields);
-                } else if (entry.getMastersthesis() != null) {
-                    bibEntry.setType(StandardEntryType.MastersThesis);
-                    parse(entry.getMastersthesis(), fields);
-                } else if (entry.getMisc() != null) {
-                    bibEntry.setType(StandardEntryType.Misc);
-                    parse(entry.getMisc(), fields);
-                } else if (entry.getPhdthesis() != null) {
-                    bibEntry.setType(StandardEntryType.PhdThesis);
-                    parse(entry.getPhdthesis(), fields);
-                } else if (entry.getProceedings() != null) {
-                    bibEntry.setType(StandardEntryType.Proceedings);
-                    parse(entry.getProceedings(), fields);
-                } else if (entry.getTechreport() != null) {
-                    bibEntry.setType(StandardEntryType.TechReport);
-                    parse(entry.getTechreport(), fields);
-                } else if (entry.getUnpublished() != null) {
-                    bibEntry.setType(StandardEntryType.Unpublished);
-                    parse(entry.getUnpublished(), fields);
-                }
+        initUnmarshaller();
 
-                if (entry.getId() != null) {
-                    bibEntry.setCitationKey(entry.getId());
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+        try {
+            while (xmlStreamReader.hasNext()) {
+                // Unmarshalling advances the reader behind the entry, so that the next event is not skipped
+                if (xmlStreamReader.isStartElement() && ENTRY_ELEMENT.equals(xmlStreamReader.getLocalName())) {
+                    entryConsumer.accept(parseEntry(unmarshaller.unmarshal(xmlStreamReader, Entry.class).getValue()));
+                } else {
+                    xmlStreamReader.next();
                 }
-                bibEntry.setField(fields);
-                bibItems.add(bibEntry);
             }
-        } catch (JAXBException e) {
-            LOGGER.error("Error with XML parser configuration", e);
-            return ParserResult.fromError(e);
+        } finally {
+            xmlStreamReader.close();
         }
-        return new ParserResult(bibItems);
+    }
+
+    private void initUnmarshaller() throws JAXBException {
+        if (unmarshaller == null) {
+            // Lazy init because this is expensive
+            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.bibtexml");
+            unmarshaller = context.createUnmarshaller();
+        }
+    }
+
+    private BibEntry parseEntry(Entry entry) {
+        BibEntry bibEntry = new BibEntry();
+        Map<Field, String> fields = new HashMap<>();
+        if (entry.getArticle() != null) {
+            bibEntry.setType(StandardEntryType.Article);
+            parse(entry.getArticle(), fields);
+        } else if (entry.getBook() != null) {
+            bibEntry.setType(StandardEntryType.Book);
+            parse(entry.getBook(), fields);
+        } else if (entry.getBooklet() != null) {
+            bibEntry.setType(StandardEntryType.Booklet);
+            parse(entry.getBooklet(), fields);
+        } else if (entry.getConference() != null) {
+            bibEntry.setType(StandardEntryType.Conference);
+            parse(entry.getConference(), fields);
+        } else if (entry.getInbook() != null) {
+            bibEntry.setType(StandardEntryType.InBook);
+            parseInbook(entry.getInbook(), fields);
+        } else if (entry.getIncollection() != null) {
+            bibEntry.setType(StandardEntryType.InCollection);
+            Incollection incollection = entry.getIncollection();
+            if (incollection.getChapter() != null) {
+                fields.put(StandardField.CHAPTER, String.valueOf(incollection.getChapter()));
+            }
+            parse(incollection, fields);
+        } else if (entry.getInproceedings() != null) {
+            bibEntry.setType(StandardEntryType.InProceedings);
+            parse(entry.getInproceedings(), fields);
+        } else if (entry.getManual() != null) {
+            bibEntry.setType(StandardEntryType.Manual);
+            parse(entry.getManual(), fields);
+        } else if (entry.getMastersthesis() != null) {
+            bibEntry.setType(StandardEntryType.MastersThesis);
+            parse(entry.getMastersthesis(), fields);
+        } else if (entry.getMisc() != null) {
+            bibEntry.setType(StandardEntryType.Misc);
+            parse(entry.getMisc(), fields);
+        } else if (entry.getPhdthesis() != null) {
+            bibEntry.setType(StandardEntryType.PhdThesis);
+            parse(entry.getPhdthesis(), fields);
+        } else if (entry.getProceedings() != null) {
+            bibEntry.setType(StandardEntryType.Proceedings);
+            parse(entry.getProceedings(), fields);
+        } else if (entry.getTechreport() != null) {
+            bibEntry.setType(StandardEntryType.TechReport);
+            parse(entry.getTechreport(), fields);
+        } else if (entry.getUnpublished() != null) {
+            bibEntry.setType(StandardEntryType.Unpublished);
+            parse(entry.getUnpublished(), fields);
+        }
+
+        if (entry.getId() != null) {
+            bibEntry.setCitationKey(entry.getId());
+        }
+        bibEntry.setField(fields);
+        return bibEntry;
     }
 
     /**
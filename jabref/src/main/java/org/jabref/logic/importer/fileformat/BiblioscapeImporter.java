@@ -48,6 +48,11 @@ public class BiblioscapeImporter extends Importer {
         return true;
     }
 
+    @Override
+    public boolean acceptsAnyFormat() {
+        return true;
+    }
+
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         List<BibEntry> bibItems = new ArrayList<>();
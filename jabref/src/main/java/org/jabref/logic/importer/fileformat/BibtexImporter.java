@@ -43,6 +43,11 @@ public class BibtexImporter extends Importer {
         return true;
     }
 
+    @Override
+    public boolean acceptsAnyFormat() {
+        return true;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) throws IOException {
         // We want to check if there is a JabRef signature in the file, because that would tell us
@@ -4,15 +4,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -20,6 +18,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -67,19 +66,43 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 1024;
+
+    // Texts of at least this length are split into chunks parsed in parallel
+    private static final int PARALLEL_PARSING_THRESHOLD = 4 * 1024 * 1024;
+    private static final int MIN_CHUNK_LENGTH = 512 * 1024;
+
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final FileUpdateMonitor fileMonitor;
+
+    // The whole text to parse. The text read since the last call of getPureTextFromFile() is sliced out of it
+    private char[] buffer;
+    private int bufferLength;
+    private int position;
+    private int pureTextStart;
+    // Characters pushed back which differ from the ones read last. While there are any, the text read is recorded
+    // in pureText instead of being sliced out of the buffer
+    private final StringBuilder pushedBack = new StringBuilder();
+    private StringBuilder pureText;
+    // Used to verify that a chunk was parsed the same way as it would have been as part of the whole text
+    private boolean endOfInputRead;
+    private boolean pureTextTakenAfterEndOfInput;
+    // The number of chunks parsed in parallel by the last parse, 0 if it was parsed serially
+    private int numberOfParsedChunks;
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    private final List<BibEntry> parsedEntries = new ArrayList<>();
+    private final Map<String, String> meta = new HashMap<>();
+    private boolean preambleParsed;
     private final MetaDataParser metaDataParser;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
         fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.getFieldContentFormatterPreferences());
         metaDataParser = new MetaDataParser(fileMonitor);
     }
@@ -132,10 +155,19 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readBuffer(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
+        numberOfParsedChunks = 0;
+        if ((bufferLength >= PARALLEL_PARSING_THRESHOLD) && (Runtime.getRuntime().availableProcessors() > 1)) {
+            Optional<ParserResult> result = parseInParallel(newLineSeparator);
+            if (result.isPresent()) {
+                return result.get();
+            }
+            LOGGER.debug("Could not parse in parallel, parsing serially");
+        }
+
         // BibTeX related contents.
         initializeParserResult(newLineSeparator);
 
@@ -146,26 +178,229 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
+    /**
+     * Reads the whole text into the buffer, so that the serialization of each entry can be cut out of it instead of
+     * being assembled character by character.
+     */
+    private void readBuffer(Reader in) throws IOException {
+        buffer = new char[8192];
+        bufferLength = 0;
+        int read;
+        while ((read = in.read(buffer, bufferLength, buffer.length - bufferLength)) != -1) {
+            bufferLength += read;
+            if (bufferLength == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+    }
+
+    private String determineNewLineSeparator() {
+        int end = Math.min(bufferLength, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
+        if (bufferLength < BibtexParser.LOOKAHEAD) {
+            // Short texts without newline are followed by end-of-file characters up to the lookahead, as if they were
+            // read from a pushback reader. Some rules (e.g., for citation keys) treat them differently from the end of input.
+            buffer = Arrays.copyOf(buffer, BibtexParser.LOOKAHEAD);
+            Arrays.fill(buffer, bufferLength, BibtexParser.LOOKAHEAD, (char) 65535);
+            bufferLength = BibtexParser.LOOKAHEAD;
+        }
+        return OS.NEWLINE;
+    }
+
+    /**
+     * Splits the text into chunks of entries, parses them in parallel and merges the results in the order of the text.
+     * Strings, the preamble and JabRef's meta data may occur in any chunk and are merged in a final serial pass.
+     * <p>
+     * Each chunk is checked to have been parsed exactly as it would have been by parsing the whole text: it has to end
+     * with the end of an entry, without the parser looking beyond, and there must not be any warnings before the last
+     * chunk. Otherwise, the text has to be parsed serially.
+     *
+     * @return the result, or an empty optional if the text has to be parsed serially
+     */
+    private Optional<ParserResult> parseInParallel(String newLineSeparator) {
+        int chunkLength = Math.max(MIN_CHUNK_LENGTH, bufferLength / (4 * Runtime.getRuntime().availableProcessors()));
+        List<Integer> boundaries = findChunkBoundaries(chunkLength);
+        if (boundaries.size() <= 2) {
+            return Optional.empty();
+        }
+        List<Integer> lines = new ArrayList<>(boundaries.size());
+        int currentLine = 1;
+        for (int i = 0; i < (boundaries.size() - 1); i++) {
+            lines.add(currentLine);
+            for (int j = boundaries.get(i); j < boundaries.get(i + 1); j++) {
+                if (buffer[j] == '\n') {
+                    currentLine++;
+                }
+            }
+        }
+
+        List<BibtexParser> chunkParsers = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            chunkParsers.add(new BibtexParser(importFormatPreferences, fileMonitor));
+        }
+        boolean parsed = IntStream.range(0, chunkParsers.size())
+                                  .parallel()
+                                  .allMatch(i -> chunkParsers.get(i).parseChunk(buffer, newLineSeparator, boundaries.get(i), boundaries.get(i + 1), lines.get(i)));
+        if (!parsed) {
+            return Optional.empty();
+        }
+
+        initializeParserResult(newLineSeparator);
+        BibtexParser lastChunkParser = chunkParsers.get(chunkParsers.size() - 1);
+        for (BibtexParser chunkParser : chunkParsers) {
+            if ((chunkParser != lastChunkParser) && (chunkParser.parserResult.hasWarnings() || !chunkParser.hasParsedChunkExactly())) {
+                return Optional.empty();
+            }
+            for (BibtexString bibtexString : chunkParser.database.getStringValues()) {
+                if (database.hasStringByName(bibtexString.getName())) {
+                    // the serial parser reports the collision
+                    return Optional.empty();
+                }
+                database.addString(bibtexString);
+            }
+            if (chunkParser.preambleParsed) {
+                database.setPreamble(chunkParser.database.getPreamble().orElse(""));
+            }
+            meta.putAll(chunkParser.meta);
+            entryTypes.addAll(chunkParser.entryTypes);
+            parsedEntries.addAll(chunkParser.parsedEntries);
+            chunkParser.parserResult.warnings().forEach(parserResult::addWarning);
+        }
+        chunkParsers.get(0).database.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        database.insertEntries(parsedEntries);
+        parseMetaData();
+        database.setEpilog(lastChunkParser.dumpTextReadSoFarToString().trim());
+        checkEpilog();
+        numberOfParsedChunks = chunkParsers.size();
+        return Optional.of(parserResult);
+    }
+
+    /**
+     * Returns the number of chunks which were parsed in parallel by the last call of {@link #parse}, or 0 if the text
+     * was parsed serially.
+     */
+    int getNumberOfParsedChunks() {
+        return numberOfParsedChunks;
+    }
+
+    /**
+     * Finds the positions where the text can be split into chunks of at least the given length. A chunk ends after the
+     * newline following a regular entry, where the parser stops reading after the entry.
+     * <p>
+     * The scan only approximates the parser, it just counts braces.
+     *
+     * @return the start of the text, the boundaries, and the end of the text
+     */
+    private List<Integer> findChunkBoundaries(int chunkLength) {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        int chunkStart = 0;
         int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+        while (i < bufferLength) {
+            if (buffer[i] != '@') {
+                i++;
+                continue;
+            }
+            int typeStart = ++i;
+            while ((i < bufferLength) && Character.isLetter(buffer[i])) {
+                i++;
+            }
+            String type = new String(buffer, typeStart, i - typeStart).toLowerCase(Locale.ROOT);
+            while ((i < bufferLength) && Character.isWhitespace(buffer[i])) {
+                i++;
+            }
+            if ((i >= bufferLength) || (buffer[i] != '{')) {
+                continue;
+            }
+            int closingBrace = findClosingBrace(i);
+            if (closingBrace < 0) {
+                break;
+            }
+            i = closingBrace + 1;
+            if (type.isEmpty() || "preamble".equals(type) || "string".equals(type) || "comment".equals(type)) {
+                continue;
+            }
+
+            // the parser consumes spaces and one newline after an entry
+            int end = i;
+            while ((end < bufferLength) && (buffer[end] == ' ')) {
+                end++;
+            }
+            if ((end < bufferLength) && (buffer[end] == '\r')) {
+                end++;
+            }
+            if ((end < bufferLength) && (buffer[end] == '\n')) {
+                end++;
+            } else {
+                continue;
+            }
+            if (((end - chunkStart) >= chunkLength) && (end < bufferLength)) {
+                boundaries.add(end);
+                chunkStart = end;
+            }
+            i = end;
         }
+        boundaries.add(bufferLength);
+        return boundaries;
+    }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+    private int findClosingBrace(int openingBrace) {
+        int depth = 0;
+        for (int i = openingBrace; i < bufferLength; i++) {
+            char character = buffer[i];
+            if ((i > 0) && (buffer[i - 1] == '\\')) {
+                continue;
+            }
+            if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
 
-        return newLineSeparator;
+    /**
+     * Parses a part of the given text, starting in the state the parser of the whole text would have at the start of
+     * the chunk.
+     *
+     * @return false if the chunk could not be parsed
+     */
+    private boolean parseChunk(char[] text, String newLineSeparator, int start, int end, int startLine) {
+        initializeParserResult(newLineSeparator);
+        buffer = text;
+        bufferLength = end;
+        position = start;
+        pureTextStart = start;
+        line = startLine;
+        try {
+            if (start == 0) {
+                parseDatabaseID();
+            }
+            skipWhitespace();
+            parseRecords();
+            return true;
+        } catch (IOException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks that the last text taken ended at the end of the chunk, before the parser hit the end of the chunk.
+     */
+    private boolean hasParsedChunkExactly() {
+        return !pureTextTakenAfterEndOfInput && (pureText == null) && (pushedBack.length() == 0) && (pureTextStart == bufferLength);
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -173,6 +408,17 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        parsedEntries.clear();
+        meta.clear();
+        preambleParsed = false;
+        position = 0;
+        pureTextStart = 0;
+        pushedBack.setLength(0);
+        pureText = null;
+        endOfInputRead = false;
+        pureTextTakenAfterEndOfInput = false;
+        eof = false;
+        line = 1;
     }
 
     private void parseDatabaseID() throws IOException {
@@ -196,8 +442,23 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
+        parseRecords();
+        database.insertEntries(parsedEntries);
+
+        parseMetaData();
+
+        parseRemainingContent();
+
+        checkEpilog();
+
+        return parserResult;
+    }
 
+    /**
+     * Parses entries, strings, the preamble and comments up to the end of the text. Entries are collected in
+     * {@link #parsedEntries}, JabRef's meta data in {@link #meta}.
+     */
+    private void parseRecords() throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -211,6 +472,7 @@ public class BibtexParser implements Parser {
 
             if ("preamble".equals(entryType)) {
                 database.setPreamble(parsePreamble());
+                preambleParsed = true;
                 // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
                 skipOneNewline();
                 // the preamble is saved verbatim anyways, so the text read so far can be dropped
@@ -226,19 +488,14 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
 
-        // Instantiate meta data:
+    private void parseMetaData() {
         try {
             parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
         } catch (ParseException exception) {
             parserResult.addException(exception);
         }
-
-        parseRemainingContent();
-
-        checkEpilog();
-
-        return parserResult;
     }
 
     private void checkEpilog() {
@@ -277,7 +534,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // Trying to make the parser more robust.
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -392,12 +649,34 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        if (endOfInputRead) {
+            pureTextTakenAfterEndOfInput = true;
+        }
+        if (pureText == null) {
+            String text = new String(buffer, pureTextStart, position - pureTextStart);
+            pureTextStart = position;
+            return text;
         }
 
-        return entry.toString();
+        String text = pureText.toString();
+        if (pushedBack.length() == 0) {
+            // back in sync with the buffer
+            pureText = null;
+            pureTextStart = position;
+        } else {
+            pureText.setLength(0);
+        }
+        return text;
+    }
+
+    /**
+     * Starts recording the text read character by character, as it is no longer a slice of the buffer.
+     */
+    private void recordPureText() {
+        if (pureText == null) {
+            pureText = new StringBuilder();
+            pureText.append(buffer, pureTextStart, position - pureTextStart);
+        }
     }
 
     /**
@@ -500,10 +779,25 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character;
+        if (pushedBack.length() > 0) {
+            int last = pushedBack.length() - 1;
+            character = pushedBack.charAt(last);
+            pushedBack.setLength(last);
+        } else if (position < bufferLength) {
+            character = buffer[position];
+            if (isEOFCharacter(character)) {
+                // end-of-file characters are not part of the text read
+                recordPureText();
+            }
+            position++;
+        } else {
+            character = -1;
+            endOfInputRead = true;
+        }
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((pureText != null) && !isEOFCharacter(character)) {
+            pureText.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -515,9 +809,17 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if ((pureText == null) && (position > pureTextStart) && (buffer[position - 1] == character)) {
+            // the common case: the character read last is pushed back
+            position--;
+            return;
+        }
+
+        recordPureText();
+        pushedBack.append((char) character);
+        int lastRecorded = pureText.length() - 1;
+        if ((lastRecorded >= 0) && (pureText.charAt(lastRecorded) == character)) {
+            pureText.setLength(lastRecorded);
         }
     }
 
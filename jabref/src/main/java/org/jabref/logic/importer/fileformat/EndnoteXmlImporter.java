@@ -7,11 +7,13 @@ import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.JAXBContext;
@@ -48,7 +50,6 @@ import org.jabref.logic.importer.fileformat.endnote.Titles;
 import org.jabref.logic.importer.fileformat.endnote.Url;
 import org.jabref.logic.importer.fileformat.endnote.Urls;
 import org.jabref.logic.importer.fileformat.endnote.Volume;
-import org.jabref.logic.importer.fileformat.endnote.Xml;
 import org.jabref.logic.importer.fileformat.endnote.Year;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
@@ -72,6 +73,9 @@ import org.slf4j.LoggerFactory;
 public class EndnoteXmlImporter extends Importer implements Parser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EndnoteXmlImporter.class);
+    private static final String ROOT_ELEMENT = "xml";
+    private static final String RECORD_ELEMENT = "record";
+
     private final ImportFormatPreferences preferences;
     private Unmarshaller unmarshaller;
 
@@ -117,40 +121,54 @@ public class EndnoteXmlImporter extends Importer implements Parser {
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
 
+        List<BibEntry> bibEntries = new ArrayList<>();
+
         try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            if (unmarshalledObject instanceof Xml) {
-                // Check whether we have an article set, an article, a book article or a book article set
-                Xml root = (Xml) unmarshalledObject;
-                List<BibEntry> bibEntries = root
-                        .getRecords().getRecord()
-                        .stream()
-                        .map(this::parseRecord)
-                        .collect(Collectors.toList());
-
-                return new ParserResult(bibEntries);
-            } else {
-                return ParserResult.fromErrorMessage("File does not start with xml tag.");
-            }
+            importEntries(reader, bibEntries::add);
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
+        return new ParserResult(bibEntries);
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws XMLStreamException, JAXBException {
+    /**
+     * Imports the records of the given document one after another. Instead of unmarshalling the whole document, the
+     * reader is advanced to each record, which is unmarshalled and converted on its own. Thus, only one record is held
+     * in memory at a time, even for large documents.
+     *
+     * @param entryConsumer receives the entry of each record as soon as it is converted, e.g., to insert it into a
+     *                      database incrementally
+     * @throws XMLStreamException if the document cannot be read or does not start with the xml tag
+     */
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws JAXBException, XMLStreamException {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(entryConsumer);
+
         initUnmarshaller();
 
         XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
         XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+        try {
+            // Go to the root element
+            while (!xmlStreamReader.isStartElement()) {
+                xmlStreamReader.next();
+            }
+            if (!ROOT_ELEMENT.equals(xmlStreamReader.getLocalName())) {
+                throw new XMLStreamException("File does not start with xml tag.");
+            }
 
-        // Go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
+            while (xmlStreamReader.hasNext()) {
+                // Unmarshalling advances the reader behind the record, so that the next event is not skipped
+                if (xmlStreamReader.isStartElement() && RECORD_ELEMENT.equals(xmlStreamReader.getLocalName())) {
+                    entryConsumer.accept(parseRecord(unmarshaller.unmarshal(xmlStreamReader, Record.class).getValue()));
+                } else {
+                    xmlStreamReader.next();
+                }
+            }
+        } finally {
+            xmlStreamReader.close();
         }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
     }
 
     private void initUnmarshaller() throws JAXBException {
@@ -14,6 +14,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -65,9 +66,7 @@ import org.jabref.logic.importer.fileformat.medline.PubDate;
 import org.jabref.logic.importer.fileformat.medline.PublicationType;
 import org.jabref.logic.importer.fileformat.medline.Publisher;
 import org.jabref.logic.importer.fileformat.medline.PubmedArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedBookArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookData;
 import org.jabref.logic.importer.fileformat.medline.QualifierName;
 import org.jabref.logic.importer.fileformat.medline.Section;
@@ -96,6 +95,8 @@ public class MedlineImporter extends Importer implements Parser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MedlineImporter.class);
     private static final String KEYWORD_SEPARATOR = "; ";
+    private static final String PUBMED_ARTICLE = "PubmedArticle";
+    private static final String PUBMED_BOOK_ARTICLE = "PubmedBookArticle";
 
     private static final Locale ENGLISH = Locale.ENGLISH;
     private Unmarshaller unmarshaller;
@@ -147,33 +148,7 @@ public class MedlineImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            // check whether we have an article set, an article, a book article or a book article set
-            if (unmarshalledObject instanceof PubmedArticleSet) {
-                PubmedArticleSet articleSet = (PubmedArticleSet) unmarshalledObject;
-                for (Object article : articleSet.getPubmedArticleOrPubmedBookArticle()) {
-                    if (article instanceof PubmedArticle) {
-                        PubmedArticle currentArticle = (PubmedArticle) article;
-                        parseArticle(currentArticle, bibItems);
-                    }
-                    if (article instanceof PubmedBookArticle) {
-                        PubmedBookArticle currentArticle = (PubmedBookArticle) article;
-                        parseBookArticle(currentArticle, bibItems);
-                    }
-                }
-            } else if (unmarshalledObject instanceof PubmedArticle) {
-                PubmedArticle article = (PubmedArticle) unmarshalledObject;
-                parseArticle(article, bibItems);
-            } else if (unmarshalledObject instanceof PubmedBookArticle) {
-                PubmedBookArticle currentArticle = (PubmedBookArticle) unmarshalledObject;
-                parseBookArticle(currentArticle, bibItems);
-            } else {
-                PubmedBookArticleSet bookArticleSet = (PubmedBookArticleSet) unmarshalledObject;
-                for (PubmedBookArticle bookArticle : bookArticleSet.getPubmedBookArticle()) {
-                    parseBookArticle(bookArticle, bibItems);
-                }
-            }
+            importEntries(reader, bibItems::add);
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -181,18 +156,42 @@ public class MedlineImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws JAXBException, XMLStreamException {
+    /**
+     * Imports the articles of the given document one after another. Instead of unmarshalling the whole document, the
+     * reader is advanced to each article or book article, which is unmarshalled and converted on its own. Thus, only
+     * one article is held in memory at a time, even for large sets of articles. The root of the document may be an
+     * article set, a book article set, or a single article or book article.
+     *
+     * @param entryConsumer receives the entry of each article as soon as it is converted, e.g., to insert it into a
+     *                      database incrementally
+     */
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws JAXBException, XMLStreamException {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(entryConsumer);
+
         initUmarshaller();
 
         XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
         XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
+        try {
+            while (xmlStreamReader.hasNext()) {
+                if (xmlStreamReader.isStartElement()) {
+                    String elementName = xmlStreamReader.getLocalName();
+                    // unmarshalling advances the reader behind the article, so that the next event is not skipped
+                    if (PUBMED_ARTICLE.equals(elementName)) {
+                        parseArticle(unmarshaller.unmarshal(xmlStreamReader, PubmedArticle.class).getValue(), entryConsumer);
+                        continue;
+                    }
+                    if (PUBMED_BOOK_ARTICLE.equals(elementName)) {
+                        parseBookArticle(unmarshaller.unmarshal(xmlStreamReader, PubmedBookArticle.class).getValue(), entryConsumer);
+                        continue;
+                    }
+                }
+                xmlStreamReader.next();
+            }
+        } finally {
+            xmlStreamReader.close();
         }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
     }
 
     private void initUmarshaller() throws JAXBException {
@@ -203,7 +202,7 @@ public class MedlineImporter extends Importer implements Parser {
         }
     }
 
-    private void parseBookArticle(PubmedBookArticle currentArticle, List<BibEntry> bibItems) {
+    private void parseBookArticle(PubmedBookArticle currentArticle, Consumer<BibEntry> entryConsumer) {
         Map<Field, String> fields = new HashMap<>();
         if (currentArticle.getBookDocument() != null) {
             BookDocument bookDocument = currentArticle.getBookDocument();
@@ -270,7 +269,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void addBookInformation(Map<Field, String> fields, Book book) {
@@ -338,7 +337,7 @@ public class MedlineImporter extends Importer implements Parser {
         return String.format("%s-%s-%s", year, month, day);
     }
 
-    private void parseArticle(PubmedArticle article, List<BibEntry> bibItems) {
+    private void parseArticle(PubmedArticle article, Consumer<BibEntry> entryConsumer) {
         Map<Field, String> fields = new HashMap<>();
 
         if (article.getPubmedData() != null) {
@@ -417,7 +416,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void addArticleIdList(Map<Field, String> fields, ArticleIdList articleIdList) {
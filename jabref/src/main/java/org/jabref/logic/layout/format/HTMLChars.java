@@ -2,9 +2,11 @@ package org.jabref.logic.layout.format;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
+import org.jabref.logic.util.strings.ReplacementTable;
 import org.jabref.model.strings.StringUtil;
 
 /**
@@ -14,14 +16,20 @@ public class HTMLChars implements LayoutFormatter {
 
     private static final Map<String, String> HTML_CHARS = HTMLUnicodeConversionMaps.LATEX_HTML_CONVERSION_MAP;
 
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("[\\n]{2,}");
+    private static final Pattern INLINE_MATH = Pattern.compile("\\$([^$]*)\\$");
+    private static final ReplacementTable HTML_ESCAPES = new ReplacementTable(Map.of(
+            "&", "&amp;", // Replace & and \& with &amp;
+            "\\&", "&amp;",
+            "\n", "<br>", // Replace single line breaks with <br>
+            "\\$", "&dollar;")); // Replace \$ with &dollar;
+
     @Override
     public String format(String inField) {
         int i;
-        String field = inField.replaceAll("&|\\\\&", "&amp;") // Replace & and \& with &amp;
-                              .replaceAll("[\\n]{2,}", "<p>") // Replace double line breaks with <p>
-                              .replace("\n", "<br>") // Replace single line breaks with <br>
-                              .replace("\\$", "&dollar;") // Replace \$ with &dollar;
-                              .replaceAll("\\$([^$]*)\\$", "\\{$1\\}"); // Replace $...$ with {...} to simplify conversion
+        String field = PARAGRAPH_BREAK.matcher(inField).replaceAll("<p>"); // Replace double line breaks with <p>
+        field = HTML_ESCAPES.replace(field);
+        field = INLINE_MATH.matcher(field).replaceAll("\\{$1\\}"); // Replace $...$ with {...} to simplify conversion
 
         StringBuilder sb = new StringBuilder();
         StringBuilder currentCommand = null;
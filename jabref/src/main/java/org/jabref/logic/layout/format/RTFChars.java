@@ -1,7 +1,10 @@
 package org.jabref.logic.layout.format;
 
+import java.util.Map;
+
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.layout.StringInt;
+import org.jabref.logic.util.strings.ReplacementTable;
 import org.jabref.logic.util.strings.RtfCharMap;
 import org.jabref.model.strings.StringUtil;
 
@@ -29,6 +32,12 @@ public class RTFChars implements LayoutFormatter {
 
     private static final RtfCharMap RTF_CHARS = new RtfCharMap();
 
+    private static final ReplacementTable RTF_PUNCTUATION = new ReplacementTable(Map.of(
+            "---", "{\\emdash}",
+            "--", "{\\endash}",
+            "``", "{\\ldblquote}",
+            "''", "{\\rdblquote}"));
+
     @Override
     public String format(String field) {
         StringBuilder sb = new StringBuilder();
@@ -146,10 +155,11 @@ public class RTFChars implements LayoutFormatter {
             }
         }
 
-        char[] chars = sb.toString().toCharArray();
-        sb = new StringBuilder();
+        String text = sb.toString();
+        sb = new StringBuilder(text.length());
 
-        for (char c : chars) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
             if (c < 128) {
                 sb.append(c);
             } else {
@@ -157,8 +167,7 @@ public class RTFChars implements LayoutFormatter {
             }
         }
 
-        return sb.toString().replace("---", "{\\emdash}").replace("--", "{\\endash}").replace("``", "{\\ldblquote}")
-                 .replace("''", "{\\rdblquote}");
+        return RTF_PUNCTUATION.replace(sb.toString());
     }
 
     /**
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jabref.logic.layout.LayoutFormatter;
+import org.jabref.logic.util.strings.ReplacementTable;
 import org.jabref.logic.util.strings.XmlCharsMap;
 
 /**
@@ -11,17 +12,19 @@ import org.jabref.logic.util.strings.XmlCharsMap;
  */
 public class XMLChars implements LayoutFormatter {
 
-    private static final XmlCharsMap XML_CHARS = new XmlCharsMap();
+    private static final ReplacementTable XML_CHARS = new ReplacementTable(unescapeKeys(new XmlCharsMap()));
 
-    private static final Map<String, String> ASCII_TO_XML_CHARS = new HashMap<>();
+    private static final ReplacementTable AMPERSANDS_AND_DASHES = new ReplacementTable(Map.of(
+            "&", "&#x0026;",
+            "\\&", "&#x0026;",
+            "--", "&#x2013;"));
 
-    private boolean[] forceReplace;
+    private static final ReplacementTable ASCII_TO_XML_CHARS = new ReplacementTable(Map.of(
+            "<", "&lt;",
+            "\"", "&quot;",
+            ">", "&gt;"));
 
-    static {
-        ASCII_TO_XML_CHARS.put("<", "&lt;");
-        ASCII_TO_XML_CHARS.put("\"", "&quot;");
-        ASCII_TO_XML_CHARS.put(">", "&gt;");
-    }
+    private boolean[] forceReplace;
 
     @Override
     public String format(String fieldText) {
@@ -32,15 +35,30 @@ public class XMLChars implements LayoutFormatter {
 
         String latexCommandFree = removeLatexCommands(fieldText);
         String formattedFieldText = firstFormat(latexCommandFree);
+        formattedFieldText = XML_CHARS.replace(formattedFieldText);
+        return restFormat(formattedFieldText);
+    }
 
-        for (Map.Entry<String, String> entry : XML_CHARS.entrySet()) {
-            String s = entry.getKey();
-            String repl = entry.getValue();
-            if (repl != null) {
-                formattedFieldText = formattedFieldText.replaceAll(s, repl);
+    /**
+     * The keys of {@link XmlCharsMap} are regular expressions which match a literal text only, with all special
+     * characters escaped by a backslash. Returns the map with the literal texts as keys.
+     */
+    private static Map<String, String> unescapeKeys(Map<String, String> map) {
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            StringBuilder key = new StringBuilder();
+            String regex = entry.getKey();
+            for (int i = 0; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+                if ((c == '\\') && ((i + 1) < regex.length())) {
+                    i++;
+                    c = regex.charAt(i);
+                }
+                key.append(c);
             }
+            result.put(key.toString(), entry.getValue());
         }
-        return restFormat(formattedFieldText);
+        return result;
     }
 
     private String removeLatexCommands(String fieldText) {
@@ -49,7 +67,7 @@ public class XMLChars implements LayoutFormatter {
     }
 
     private static String firstFormat(String s) {
-        return s.replaceAll("&|\\\\&", "&#x0026;").replace("--", "&#x2013;");
+        return AMPERSANDS_AND_DASHES.replace(s);
     }
 
     private String restFormat(String toFormat) {
@@ -95,10 +113,6 @@ public class XMLChars implements LayoutFormatter {
         fieldText = buffer.toString();
 
         // use common abbreviations for <, > instead of code
-        for (Map.Entry<String, String> entry : ASCII_TO_XML_CHARS.entrySet()) {
-            fieldText = fieldText.replace(entry.getKey(), entry.getValue());
-        }
-
-        return fieldText;
+        return ASCII_TO_XML_CHARS.replace(fieldText);
     }
 }
@@ -0,0 +1,179 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.util.DelayTaskThrottler;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.pdf.search.EnglishStemAnalyzer;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the Lucene {@link IndexWriter} of the fulltext index of a library together with a near-real-time
+ * {@link SearcherManager}, so that indexing and searching do not have to open the index for every file or query.
+ * <p>
+ * There is at most one instance per index directory. It is kept open until {@link #shutdown(BibDatabaseContext)} is
+ * called for the library.
+ * <p>
+ * Changes are not committed one by one, but after {@link #COMMIT_BATCH_SIZE} changes or as soon as no change happened
+ * for {@link #COMMIT_DELAY} milliseconds. Searches see uncommitted changes as well. The {@link PdfIndexManifest} of
+ * the index is written together with each commit.
+ */
+public class PdfIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndex.class);
+
+    private static final int COMMIT_BATCH_SIZE = 100;
+    private static final int COMMIT_DELAY = 5000;
+
+    private static final Map<Path, PdfIndex> OPEN_INDICES = new HashMap<>();
+
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final PdfIndexManifest manifest;
+
+    private final DelayTaskThrottler commitThrottler;
+    private final AtomicInteger uncommittedChanges = new AtomicInteger();
+    private volatile boolean deletedSinceRefresh;
+    // links of the files written since the last refresh of the searcher manager
+    private final Set<String> writtenSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    private PdfIndex(Path indexPath) throws IOException {
+        this.directory = new NIOFSDirectory(indexPath);
+        this.indexWriter = new IndexWriter(directory,
+                new IndexWriterConfig(new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        // null: use the default SearcherFactory
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        this.manifest = PdfIndexManifest.load(indexPath);
+        if (indexWriter.getDocStats().numDocs == 0) {
+            // the index was deleted or never written, the manifest does not describe it
+            manifest.clear();
+        }
+        this.commitThrottler = new DelayTaskThrottler(COMMIT_DELAY);
+    }
+
+    /**
+     * Returns the open index of the given library. The index is opened (or created) if it is not open yet.
+     */
+    public static synchronized PdfIndex of(BibDatabaseContext databaseContext) throws IOException {
+        Path indexPath = databaseContext.getFulltextIndexPath().toAbsolutePath();
+        PdfIndex index = OPEN_INDICES.get(indexPath);
+        if (index == null) {
+            index = new PdfIndex(indexPath);
+            OPEN_INDICES.put(indexPath, index);
+        }
+        return index;
+    }
+
+    /**
+     * Commits all pending changes and closes the index of the given library.
+     */
+    public static synchronized void shutdown(BibDatabaseContext databaseContext) {
+        PdfIndex index = OPEN_INDICES.remove(databaseContext.getFulltextIndexPath().toAbsolutePath());
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    public IndexWriter getIndexWriter() {
+        return indexWriter;
+    }
+
+    public SearcherManager getSearcherManager() {
+        return searcherManager;
+    }
+
+    /**
+     * Returns the manifest of the files in the index. It is written to disk whenever the index is committed.
+     */
+    public PdfIndexManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * Notifies the index that a change was written to the {@link IndexWriter}. The change is committed together with
+     * other changes later on.
+     */
+    public synchronized void changed() {
+        if (uncommittedChanges.incrementAndGet() >= COMMIT_BATCH_SIZE) {
+            commit();
+        } else {
+            commitThrottler.schedule(this::commit);
+        }
+    }
+
+    /**
+     * Notifies the index that documents were deleted from the {@link IndexWriter}.
+     */
+    public void deleted() {
+        deletedSinceRefresh = true;
+        changed();
+    }
+
+    /**
+     * Notifies the index that the pages of the file with the given link were written to the {@link IndexWriter}.
+     */
+    public void written(String link) {
+        writtenSinceRefresh.add(link);
+        changed();
+    }
+
+    /**
+     * Makes the {@link SearcherManager} see the current documents of the given link, i.e., all deletions and writes of
+     * the link since its last refresh. Writes of other links are not considered, as refreshing for each added file
+     * would flush the writer for every file.
+     */
+    public void refreshFor(String link) throws IOException {
+        if (deletedSinceRefresh || writtenSinceRefresh.contains(link)) {
+            // reset before refreshing, so that changes during the refresh are not forgotten
+            deletedSinceRefresh = false;
+            writtenSinceRefresh.clear();
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    /**
+     * Commits all pending changes to the index directory.
+     */
+    public void commit() {
+        uncommittedChanges.set(0);
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                deletedSinceRefresh = false;
+                writtenSinceRefresh.clear();
+                indexWriter.commit();
+                // cheap, as the commit flushed all changes
+                searcherManager.maybeRefreshBlocking();
+            }
+            manifest.save();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit the fulltext index", e);
+        }
+    }
+
+    private void close() {
+        commitThrottler.shutdown();
+        try {
+            searcherManager.close();
+            // commits pending changes
+            indexWriter.close();
+            manifest.save();
+            directory.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the fulltext index", e);
+        }
+    }
+}
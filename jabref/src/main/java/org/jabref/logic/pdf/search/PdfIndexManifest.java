@@ -0,0 +1,181 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records which linked files are contained in the fulltext index of a library, together with the size, modification
+ * time and content hash the files had when they were indexed.
+ * <p>
+ * The manifest is stored in the index directory, next to the files of the index. It allows to find new, changed,
+ * unlinked and moved files in one pass over the library, without querying the index for every file.
+ */
+public class PdfIndexManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndexManifest.class);
+
+    // Lucene leaves files alone that do not look like index files
+    private static final String MANIFEST_FILE_NAME = "jabref-manifest.csv";
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.withIgnoreEmptyLines(true);
+
+    private final Path manifestFile;
+    private final Map<String, IndexedFile> indexedFiles = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private PdfIndexManifest(Path manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Loads the manifest of the index in the given directory. If there is no (readable) manifest, the manifest is
+     * empty.
+     */
+    public static PdfIndexManifest load(Path indexPath) {
+        PdfIndexManifest manifest = new PdfIndexManifest(indexPath.resolve(MANIFEST_FILE_NAME));
+        if (Files.exists(manifest.manifestFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifest.manifestFile, StandardCharsets.UTF_8);
+                 CSVParser csvParser = new CSVParser(reader, FORMAT)) {
+                for (CSVRecord csvRecord : csvParser) {
+                    IndexedFile indexedFile = new IndexedFile(csvRecord.get(0), Long.parseLong(csvRecord.get(1)),
+                            Long.parseLong(csvRecord.get(2)), csvRecord.get(3), Long.parseLong(csvRecord.get(4)));
+                    manifest.indexedFiles.put(indexedFile.getLink(), indexedFile);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Could not read the manifest of the fulltext index, all files will be checked", e);
+                manifest.indexedFiles.clear();
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes the manifest to disk if it changed since it was last written.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        modified = false;
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8);
+             CSVPrinter csvPrinter = new CSVPrinter(writer, FORMAT)) {
+            for (IndexedFile indexedFile : indexedFiles.values()) {
+                csvPrinter.printRecord(indexedFile.getLink(), indexedFile.getSize(), indexedFile.getModified(),
+                        indexedFile.getHash(), indexedFile.getIndexedAt());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the manifest of the fulltext index", e);
+        }
+    }
+
+    public Optional<IndexedFile> get(String link) {
+        return Optional.ofNullable(indexedFiles.get(link));
+    }
+
+    public Collection<IndexedFile> getIndexedFiles() {
+        return new ArrayList<>(indexedFiles.values());
+    }
+
+    public void put(IndexedFile indexedFile) {
+        indexedFiles.put(indexedFile.getLink(), indexedFile);
+        modified = true;
+    }
+
+    public void remove(String link) {
+        if (indexedFiles.remove(link) != null) {
+            modified = true;
+        }
+    }
+
+    public void clear() {
+        indexedFiles.clear();
+        modified = true;
+    }
+
+    /**
+     * A file as it was written to the index.
+     */
+    public static class IndexedFile {
+
+        private final String link;
+        private final long size;
+        private final long modified;
+        private final String hash;
+        private final long indexedAt;
+
+        public IndexedFile(String link, long size, long modified, String hash, long indexedAt) {
+            this.link = link;
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.indexedAt = indexedAt;
+        }
+
+        /**
+         * Reads size, modification time and content hash of the file at the given path.
+         *
+         * @param link the link of the file as stored in the index
+         * @param path the resolved path of the file
+         */
+        public static IndexedFile of(String link, Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new IndexedFile(link, attributes.size(), attributes.lastModifiedTime().toMillis(), hash(path), System.currentTimeMillis());
+        }
+
+        public static String hash(Path path) throws IOException {
+            return MoreFiles.asByteSource(path).hash(Hashing.sha256()).toString();
+        }
+
+        /**
+         * @return the same file at another location
+         */
+        public IndexedFile movedTo(String newLink, BasicFileAttributes attributes) {
+            return new IndexedFile(newLink, attributes.size(), attributes.lastModifiedTime().toMillis(), hash, System.currentTimeMillis());
+        }
+
+        /**
+         * Checks whether the file on disk still has the size and modification time it had when it was indexed.
+         */
+        public boolean isUnchanged(BasicFileAttributes attributes) {
+            return (size == attributes.size()) && (modified == attributes.lastModifiedTime().toMillis());
+        }
+
+        public String getLink() {
+            return link;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getModified() {
+            return modified;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public long getIndexedAt() {
+            return indexedAt;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexableField;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
@@ -96,12 +97,15 @@ public final class DocumentReader {
     private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath) throws IOException {
         try (PDDocument pdfDocument = PDDocument.load(resolvedPdfPath.toFile())) {
             List<Document> pages = new ArrayList<>();
+            // one stripper per document, it is restricted to the current page below
+            PDFTextStripper pdfTextStripper = new PDFTextStripper();
+            pdfTextStripper.setLineSeparator("\n");
 
             for (int pageNumber = 0; pageNumber < pdfDocument.getNumberOfPages(); pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, pdf.getLink());
                 addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, pageNumber);
+                addContentIfNotEmpty(pdfDocument, pdfTextStripper, newDocument, pageNumber);
                 pages.add(newDocument);
             }
             return pages;
@@ -134,10 +138,8 @@ public final class DocumentReader {
         return LINEBREAK_WITHOUT_PERIOD_PATTERN.matcher(mergedHyphenNewlines).replaceAll("$1 ");
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, int pageNumber) {
+    private void addContentIfNotEmpty(PDDocument pdfDocument, PDFTextStripper pdfTextStripper, Document newDocument, int pageNumber) {
         try {
-            PDFTextStripper pdfTextStripper = new PDFTextStripper();
-            pdfTextStripper.setLineSeparator("\n");
             pdfTextStripper.setStartPage(pageNumber);
             pdfTextStripper.setEndPage(pageNumber);
 
@@ -155,6 +157,27 @@ public final class DocumentReader {
         }
     }
 
+    /**
+     * Creates a copy of a page read from the index for a file that was moved to another location.
+     *
+     * @param storedPage the page as stored in the index
+     * @param newPath the link to the file at its new location
+     * @param attributes the attributes of the file at its new location
+     */
+    public static Document copyPage(Document storedPage, String newPath, BasicFileAttributes attributes) {
+        Document newDocument = new Document();
+        newDocument.add(new StringField(PATH, newPath, Field.Store.YES));
+        newDocument.add(new StringField(MODIFIED, String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)), Field.Store.YES));
+        for (IndexableField field : storedPage.getFields()) {
+            if (CONTENT.equals(field.name()) || ANNOTATIONS.equals(field.name())) {
+                newDocument.add(new TextField(field.name(), field.stringValue(), Field.Store.YES));
+            } else if (!PATH.equals(field.name()) && !MODIFIED.equals(field.name())) {
+                newDocument.add(new StringField(field.name(), field.stringValue(), Field.Store.YES));
+            }
+        }
+        return newDocument;
+    }
+
     private void addIdentifiers(Document newDocument, String path) {
         newDocument.add(new StringField(PATH, path, Field.Store.YES));
     }
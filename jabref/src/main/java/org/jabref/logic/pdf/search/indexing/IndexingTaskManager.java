@@ -1,8 +1,16 @@
 package org.jabref.logic.pdf.search.indexing;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
@@ -12,12 +20,25 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Wrapper around {@link PdfIndexer} to execute all operations in the background.
+ * <p>
+ * Linked files are read by several reader threads in parallel, while all changes are written to the index by the thread
+ * running this task, in the order the operations were requested. At most {@link #MAX_FILES_IN_FLIGHT} files are read
+ * ahead of the writer, so that the memory needed for the read pages stays bounded.
  */
 public class IndexingTaskManager extends BackgroundTask<Void> {
 
-    private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+    static final int NUMBER_OF_READERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    static final int MAX_FILES_IN_FLIGHT = 2 * NUMBER_OF_READERS;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexingTaskManager.class);
+
+    private final Queue<IndexingTask> taskQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadPoolExecutor readerExecutor;
     private TaskExecutor taskExecutor;
     private int numOfIndexedFiles = 0;
 
@@ -26,6 +47,14 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
 
     public IndexingTaskManager(TaskExecutor taskExecutor) {
         this.taskExecutor = taskExecutor;
+        this.readerExecutor = new ThreadPoolExecutor(NUMBER_OF_READERS, NUMBER_OF_READERS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("JabRef PdfReader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // reader threads are only kept while indexing
+        this.readerExecutor.allowCoreThreadTimeOut(true);
         showToUser(true);
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             this.updateProgress(1, 1);
@@ -35,21 +64,67 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
 
     @Override
     protected Void call() throws Exception {
-        synchronized (lock) {
-            isRunning = true;
-        }
         updateProgress();
-        while (!taskQueue.isEmpty() && !isCanceled()) {
-            taskQueue.poll().run();
+        Deque<Future<Runnable>> filesInFlight = new ArrayDeque<>();
+        while (!isCanceled()) {
+            readAhead(filesInFlight);
+
+            if (!filesInFlight.isEmpty()) {
+                write(filesInFlight.poll());
+            } else {
+                IndexingTask task = taskQueue.poll();
+                if (task == null) {
+                    synchronized (lock) {
+                        if (taskQueue.isEmpty()) {
+                            isRunning = false;
+                            return null;
+                        }
+                    }
+                    continue;
+                }
+                // the task has to see all previous changes, thus nothing is read ahead of it
+                runInOrder(task);
+            }
             numOfIndexedFiles++;
             updateProgress();
         }
+
+        filesInFlight.forEach(file -> file.cancel(true));
         synchronized (lock) {
             isRunning = false;
         }
         return null;
     }
 
+    /**
+     * Starts reading the files of the next tasks until the pipeline is full or the next task has to run in order.
+     */
+    private void readAhead(Deque<Future<Runnable>> filesInFlight) {
+        IndexingTask next = taskQueue.peek();
+        while ((filesInFlight.size() < MAX_FILES_IN_FLIGHT) && (next != null) && next.canReadAhead()) {
+            filesInFlight.add(readerExecutor.submit(taskQueue.poll().preparation()));
+            next = taskQueue.peek();
+        }
+    }
+
+    private void write(Future<Runnable> fileInFlight) {
+        try {
+            fileInFlight.get().run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            LOGGER.warn("Could not index file", e);
+        }
+    }
+
+    private void runInOrder(IndexingTask task) {
+        try {
+            task.preparation().call().run();
+        } catch (Exception e) {
+            LOGGER.warn("Could not update the index", e);
+        }
+    }
+
     private void updateProgress() {
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             updateMessage(Localization.lang("%0 of %1 linked files added to the index", numOfIndexedFiles, numOfIndexedFiles + taskQueue.size()));
@@ -57,7 +132,7 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         });
     }
 
-    private void enqueueTask(Runnable indexingTask) {
+    private void enqueueTask(IndexingTask indexingTask) {
         taskQueue.add(indexingTask);
         // What if already running?
         synchronized (lock) {
@@ -69,25 +144,46 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         }
     }
 
+    private void enqueueTask(Runnable indexingTask) {
+        enqueueTask(new IndexingTask(() -> indexingTask, false));
+    }
+
+    private void enqueueAddition(PdfIndexer indexer, BibEntry entry, LinkedFile file, BibDatabaseContext databaseContext) {
+        enqueueTask(new IndexingTask(() -> {
+            // runs on a reader thread
+            return indexer.readFileToIndex(entry, file, databaseContext)
+                          .<Runnable>map(extractedFile -> () -> indexer.writeToIndex(extractedFile))
+                          .orElse(() -> { });
+        }, true));
+    }
+
     public void createIndex(PdfIndexer indexer) {
         enqueueTask(() -> indexer.createIndex());
     }
 
+    /**
+     * Updates the index to the current state of the library, only reading files that are new or changed since they were
+     * indexed. See {@link PdfIndexer#updateIndex}.
+     */
+    public void updateIndex(PdfIndexer indexer, BibDatabaseContext databaseContext) {
+        enqueueTask(() -> indexer.updateIndex(databaseContext, (entry, file) -> enqueueAddition(indexer, entry, file, databaseContext)));
+    }
+
     public void addToIndex(PdfIndexer indexer, BibDatabaseContext databaseContext) {
         for (BibEntry entry : databaseContext.getEntries()) {
             for (LinkedFile file : entry.getFiles()) {
-                enqueueTask(() -> indexer.addToIndex(entry, file, databaseContext));
+                enqueueAddition(indexer, entry, file, databaseContext);
             }
         }
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry, BibDatabaseContext databaseContext) {
-        enqueueTask(() -> addToIndex(indexer, entry, entry.getFiles(), databaseContext));
+        addToIndex(indexer, entry, entry.getFiles(), databaseContext);
     }
 
     public void addToIndex(PdfIndexer indexer, BibEntry entry, List<LinkedFile> linkedFiles, BibDatabaseContext databaseContext) {
         for (LinkedFile file : linkedFiles) {
-            enqueueTask(() -> indexer.addToIndex(entry, file, databaseContext));
+            enqueueAddition(indexer, entry, file, databaseContext);
         }
     }
 
@@ -98,10 +194,33 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
     }
 
     public void removeFromIndex(PdfIndexer indexer, BibEntry entry) {
-        enqueueTask(() -> removeFromIndex(indexer, entry, entry.getFiles()));
+        removeFromIndex(indexer, entry, entry.getFiles());
     }
 
     public void updateDatabaseName(String name) {
         DefaultTaskExecutor.runInJavaFXThread(() -> this.titleProperty().set(Localization.lang("Indexing for %0", name)));
     }
+
+    /**
+     * An operation on the index. Its preparation (e.g., reading a pdf file) yields the change to be written to the
+     * index. Preparations of tasks that can be read ahead run in parallel to other tasks.
+     */
+    private static class IndexingTask {
+
+        private final Callable<Runnable> preparation;
+        private final boolean canReadAhead;
+
+        IndexingTask(Callable<Runnable> preparation, boolean canReadAhead) {
+            this.preparation = preparation;
+            this.canReadAhead = canReadAhead;
+        }
+
+        Callable<Runnable> preparation() {
+            return preparation;
+        }
+
+        boolean canReadAhead() {
+            return canReadAhead;
+        }
+    }
 }
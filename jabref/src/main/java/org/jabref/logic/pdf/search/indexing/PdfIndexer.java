@@ -4,53 +4,59 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.pdf.search.PdfIndex;
+import org.jabref.logic.pdf.search.PdfIndexManifest;
+import org.jabref.logic.pdf.search.PdfIndexManifest.IndexedFile;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
-import org.jabref.model.pdf.search.EnglishStemAnalyzer;
 import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexNotFoundException;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Indexes the text of PDF files and adds it into the lucene search index.
+ * <p>
+ * All changes go through the {@link PdfIndex} of the library. Operations on single files leave committing to the
+ * {@link PdfIndex}, operations on whole entries or libraries commit once they are done.
  */
 public class PdfIndexer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
-    private final Directory directoryToIndex;
+    private final PdfIndex index;
     private BibDatabaseContext databaseContext;
 
     private final FilePreferences filePreferences;
 
-    public PdfIndexer(Directory indexDirectory, FilePreferences filePreferences) {
-        this.directoryToIndex = indexDirectory;
+    public PdfIndexer(PdfIndex index, FilePreferences filePreferences) {
+        this.index = index;
         this.filePreferences = filePreferences;
     }
 
     public static PdfIndexer of(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
-        return new PdfIndexer(new NIOFSDirectory(databaseContext.getFulltextIndexPath()), filePreferences);
+        return new PdfIndexer(PdfIndex.of(databaseContext), filePreferences);
     }
 
     /**
@@ -58,18 +64,132 @@ public class PdfIndexer {
      * Lucene search index will be deleted!
      */
     public void createIndex() {
-        // Create new index by creating IndexWriter but not writing anything.
+        flushIndex();
+    }
+
+    public void addToIndex(BibDatabaseContext databaseContext) {
+        for (BibEntry entry : databaseContext.getEntries()) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                addToIndex(entry, linkedFile, databaseContext);
+            }
+        }
+        index.commit();
+    }
+
+    /**
+     * Brings the index up to date with the pdf files linked in the library, based on the {@link PdfIndexManifest} of
+     * the index. Files that are not linked anymore are removed from the index. Files that were moved or renamed are
+     * detected by their content hash and updated in the index without reading them again. Files that are new or
+     * changed are passed to the given consumer to be read and added to the index.
+     *
+     * @param databaseContext the library
+     * @param filesToIndex consumer of the linked files which have to be (re)indexed
+     */
+    public void updateIndex(BibDatabaseContext databaseContext, BiConsumer<BibEntry, LinkedFile> filesToIndex) {
+        this.databaseContext = databaseContext;
+        PdfIndexManifest manifest = index.getManifest();
+
+        Set<String> linkedFiles = new HashSet<>();
+        List<NewFile> newFiles = new ArrayList<>();
+        for (BibEntry entry : databaseContext.getEntries()) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                if (linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())
+                        || !linkedFiles.add(linkedFile.getLink())) {
+                    continue;
+                }
+                Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
+                if (resolvedPath.isEmpty()) {
+                    LOGGER.warn("Could not find {}", linkedFile.getLink());
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
+                    Optional<IndexedFile> indexedFile = manifest.get(linkedFile.getLink());
+                    if (indexedFile.isEmpty()) {
+                        newFiles.add(new NewFile(entry, linkedFile, resolvedPath.get(), attributes));
+                    } else if (!indexedFile.get().isUnchanged(attributes)) {
+                        filesToIndex.accept(entry, linkedFile);
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("Could not read the attributes of {}", linkedFile.getLink(), e);
+                }
+            }
+        }
+
+        // Files in the index which are not linked anymore, possibly because they were moved
+        Map<Long, List<IndexedFile>> unlinkedFilesBySize = manifest.getIndexedFiles().stream()
+                                                                   .filter(indexedFile -> !linkedFiles.contains(indexedFile.getLink()))
+                                                                   .collect(Collectors.groupingBy(IndexedFile::getSize));
+        for (NewFile newFile : newFiles) {
+            Optional<IndexedFile> movedFile = findMovedFile(newFile, unlinkedFilesBySize.getOrDefault(newFile.attributes.size(), List.of()));
+            if (movedFile.isPresent()) {
+                moveInIndex(movedFile.get(), newFile);
+            } else {
+                filesToIndex.accept(newFile.entry, newFile.linkedFile);
+            }
+        }
+
+        unlinkedFilesBySize.values().stream().flatMap(List::stream).forEach(this::removeUnlinkedFile);
+        index.commit();
+    }
+
+    /**
+     * Finds an unlinked file of the same size with the same content. The found file is removed from the given list.
+     */
+    private Optional<IndexedFile> findMovedFile(NewFile newFile, List<IndexedFile> unlinkedFilesOfSameSize) {
+        if (unlinkedFilesOfSameSize.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            IndexWriter indexWriter = new IndexWriter(directoryToIndex, new IndexWriterConfig(new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
-            indexWriter.close();
+            String hash = IndexedFile.hash(newFile.resolvedPath);
+            Optional<IndexedFile> movedFile = unlinkedFilesOfSameSize.stream()
+                                                                     .filter(unlinkedFile -> hash.equals(unlinkedFile.getHash()))
+                                                                     .findFirst();
+            movedFile.ifPresent(unlinkedFilesOfSameSize::remove);
+            return movedFile;
         } catch (IOException e) {
-            LOGGER.warn("Could not create new Index!", e);
+            LOGGER.warn("Could not compute the hash of {}", newFile.linkedFile.getLink(), e);
+            return Optional.empty();
         }
     }
 
-    public void addToIndex(BibDatabaseContext databaseContext) {
-        for (BibEntry entry : databaseContext.getEntries()) {
-            addToIndex(entry, databaseContext);
+    /**
+     * Stores the pages of a file under the link of the file's new location, without reading the file again.
+     */
+    private void moveInIndex(IndexedFile movedFile, NewFile newFile) {
+        String newLink = newFile.linkedFile.getLink();
+        SearcherManager searcherManager = index.getSearcherManager();
+        try {
+            index.refreshFor(movedFile.getLink());
+            IndexSearcher searcher = searcherManager.acquire();
+            List<Document> pages = new ArrayList<>();
+            try {
+                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, movedFile.getLink()));
+                TopDocs topDocs = searcher.search(query, Math.max(1, searcher.count(query)));
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    pages.add(DocumentReader.copyPage(searcher.doc(scoreDoc.doc), newLink, newFile.attributes));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+
+            index.getIndexWriter().updateDocuments(new Term(SearchFieldConstants.PATH, newLink), pages);
+            index.getIndexWriter().deleteDocuments(new Term(SearchFieldConstants.PATH, movedFile.getLink()));
+            index.getManifest().remove(movedFile.getLink());
+            index.getManifest().put(movedFile.movedTo(newLink, newFile.attributes));
+            index.deleted();
+        } catch (IOException e) {
+            LOGGER.warn("Could not move the document {} to {} in the index!", movedFile.getLink(), newLink, e);
+        }
+    }
+
+    private void removeUnlinkedFile(IndexedFile unlinkedFile) {
+        try {
+            index.getIndexWriter().deleteDocuments(new Term(SearchFieldConstants.PATH, unlinkedFile.getLink()));
+            index.getManifest().remove(unlinkedFile.getLink());
+            index.deleted();
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove the document {} from the index!", unlinkedFile.getLink(), e);
         }
     }
 
@@ -93,6 +213,7 @@ public class PdfIndexer {
         for (LinkedFile linkedFile : linkedFiles) {
             addToIndex(entry, linkedFile, databaseContext);
         }
+        index.commit();
     }
 
     /**
@@ -116,17 +237,15 @@ public class PdfIndexer {
      * @param linkedFile the link to the file to be removed
      */
     public void removeFromIndex(BibEntry entry, LinkedFile linkedFile) {
-        try (IndexWriter indexWriter = new IndexWriter(
-                directoryToIndex,
-                new IndexWriterConfig(
-                        new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))
-        ) {
-            if (!entry.getFiles().isEmpty()) {
-                indexWriter.deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-            }
-            indexWriter.commit();
+        if (entry.getFiles().isEmpty()) {
+            return;
+        }
+        try {
+            index.getIndexWriter().deleteDocuments(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
+            index.getManifest().remove(linkedFile.getLink());
+            index.deleted();
         } catch (IOException e) {
-            LOGGER.warn("Could not initialize the IndexWriter!", e);
+            LOGGER.warn("Could not remove the document {} from the index!", linkedFile.getLink(), e);
         }
     }
 
@@ -146,81 +265,158 @@ public class PdfIndexer {
         for (LinkedFile linkedFile : linkedFiles) {
             removeFromIndex(entry, linkedFile);
         }
+        index.commit();
     }
 
     /**
      * Deletes all entries from the Lucene search index.
      */
     public void flushIndex() {
-        IndexWriterConfig config = new IndexWriterConfig();
-        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
-        try (IndexWriter deleter = new IndexWriter(directoryToIndex, config)) {
-            // Do nothing. Index is deleted.
+        try {
+            index.getIndexWriter().deleteAll();
+            index.getManifest().clear();
+            index.deleted();
+            index.commit();
         } catch (IOException e) {
-            LOGGER.warn("The IndexWriter could not be initialized", e);
+            LOGGER.warn("Could not clear the index", e);
         }
     }
 
     /**
-     * Writes all files linked to an entry to the index if the files are not yet in the index or the files on the fs are
-     * newer than the one in the index.
+     * Writes the file to the index if the file is not yet in the index or the file on the fs is newer than the one in
+     * the index.
      * @param entry the entry associated with the file
+     * @param linkedFile the file to write to the index
      */
-    private void writeToIndex(BibEntry entry) {
-        for (LinkedFile linkedFile : entry.getFiles()) {
-            writeToIndex(entry, linkedFile);
-        }
+    private void writeToIndex(BibEntry entry, LinkedFile linkedFile) {
+        readFileToIndex(entry, linkedFile, databaseContext).ifPresent(this::writeToIndex);
     }
 
     /**
-     * Writes the file to the index if the file is not yet in the index or the file on the fs is newer than the one in
-     * the index.
+     * Reads the pages of a file if the file is not yet in the index or the file on the fs is newer than the one in the
+     * index. The index itself is not changed, thus this method may be called for several files in parallel.
+     *
      * @param entry the entry associated with the file
-     * @param linkedFile the file to write to the index
+     * @param linkedFile the file to read
+     * @param databaseContext the associated BibDatabaseContext, used to resolve the path of the file
+     * @return the file to be passed to {@link #writeToIndex(ExtractedFile)}, empty if there is nothing to write
      */
-    private void writeToIndex(BibEntry entry, LinkedFile linkedFile) {
-        if (linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())) {
-            return;
+    public Optional<ExtractedFile> readFileToIndex(BibEntry entry, LinkedFile linkedFile, BibDatabaseContext databaseContext) {
+        if (entry.getFiles().isEmpty() || linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())) {
+            return Optional.empty();
         }
         Optional<Path> resolvedPath = linkedFile.findIn(databaseContext, filePreferences);
         if (resolvedPath.isEmpty()) {
             LOGGER.warn("Could not find {}", linkedFile.getLink());
-            return;
+            return Optional.empty();
         }
         try {
-            // Check if a document with this path is already in the index
-            try {
-                IndexReader reader = DirectoryReader.open(directoryToIndex);
-                IndexSearcher searcher = new IndexSearcher(reader);
-                TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
-                TopDocs topDocs = searcher.search(query, 1);
-                // If a document was found, check if is less current than the one in the FS
-                if (topDocs.scoreDocs.length > 0) {
-                    Document doc = reader.document(topDocs.scoreDocs[0].doc);
-                    long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
+            if (isUpToDate(linkedFile, resolvedPath.get())) {
+                recordInManifest(linkedFile, resolvedPath.get());
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not check whether the document {} is in the index!", linkedFile.getLink(), e);
+        }
+        try {
+            // read before the pages, so that a change while reading leads to reading the file again next time
+            IndexedFile indexedFile = IndexedFile.of(linkedFile.getLink(), resolvedPath.get());
+            return new DocumentReader(entry, filePreferences).readLinkedPdf(databaseContext, linkedFile)
+                                                             .map(pages -> new ExtractedFile(indexedFile, pages));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the document {}!", linkedFile.getLink(), e);
+            return Optional.empty();
+        }
+    }
 
-                    BasicFileAttributes attributes = Files.readAttributes(resolvedPath.get(), BasicFileAttributes.class);
+    /**
+     * Writes the pages of a file to the index. Pages of an older version of the file are replaced.
+     *
+     * @param file the file as returned by {@link #readFileToIndex(BibEntry, LinkedFile, BibDatabaseContext)}
+     */
+    public void writeToIndex(ExtractedFile file) {
+        try {
+            index.getIndexWriter().updateDocuments(new Term(SearchFieldConstants.PATH, file.getIndexedFile().getLink()), file.getPages());
+            index.getManifest().put(file.getIndexedFile());
+            index.written(file.getIndexedFile().getLink());
+        } catch (IOException e) {
+            LOGGER.warn("Could not add the document {} to the index!", file.getIndexedFile().getLink(), e);
+        }
+    }
 
-                    if (indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS)) {
-                        return;
-                    }
-                }
-                reader.close();
-            } catch (IndexNotFoundException e) {
-                // if there is no index yet, don't need to check anything!
-            }
-            // If no document was found, add the new one
-            Optional<List<Document>> pages = new DocumentReader(entry, filePreferences).readLinkedPdf(this.databaseContext, linkedFile);
-            if (pages.isPresent()) {
-                IndexWriter indexWriter = new IndexWriter(directoryToIndex,
-                        new IndexWriterConfig(
-                                new EnglishStemAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
-                indexWriter.addDocuments(pages.get());
-                indexWriter.commit();
-                indexWriter.close();
+    /**
+     * Adds a file which is already up to date in the index to the manifest, e.g., because the index was written before
+     * there was a manifest.
+     */
+    private void recordInManifest(LinkedFile linkedFile, Path resolvedPath) throws IOException {
+        PdfIndexManifest manifest = index.getManifest();
+        Optional<IndexedFile> indexedFile = manifest.get(linkedFile.getLink());
+        if (indexedFile.isEmpty() || !indexedFile.get().isUnchanged(Files.readAttributes(resolvedPath, BasicFileAttributes.class))) {
+            manifest.put(IndexedFile.of(linkedFile.getLink(), resolvedPath));
+            index.changed();
+        }
+    }
+
+    /**
+     * Checks whether a document with this path is already in the index and at least as current as the one in the FS
+     */
+    private boolean isUpToDate(LinkedFile linkedFile, Path resolvedPath) throws IOException {
+        index.refreshFor(linkedFile.getLink());
+        SearcherManager searcherManager = index.getSearcherManager();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TermQuery query = new TermQuery(new Term(SearchFieldConstants.PATH, linkedFile.getLink()));
+            TopDocs topDocs = searcher.search(query, 1);
+            if (topDocs.scoreDocs.length == 0) {
+                return false;
             }
-        } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index!", linkedFile.getLink(), e);
+            Document doc = searcher.doc(topDocs.scoreDocs[0].doc);
+            long indexModificationTime = Long.parseLong(doc.getField(SearchFieldConstants.MODIFIED).stringValue());
+
+            BasicFileAttributes attributes = Files.readAttributes(resolvedPath, BasicFileAttributes.class);
+            return indexModificationTime >= attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * The pages read from a linked file, ready to be written to the index.
+     */
+    public static class ExtractedFile {
+
+        private final IndexedFile indexedFile;
+        private final List<Document> pages;
+
+        public ExtractedFile(IndexedFile indexedFile, List<Document> pages) {
+            this.indexedFile = indexedFile;
+            this.pages = pages;
+        }
+
+        public IndexedFile getIndexedFile() {
+            return indexedFile;
+        }
+
+        public List<Document> getPages() {
+            return pages;
+        }
+    }
+
+    /**
+     * A linked file that is not in the manifest yet.
+     */
+    private static class NewFile {
+
+        private final BibEntry entry;
+        private final LinkedFile linkedFile;
+        private final Path resolvedPath;
+        private final BasicFileAttributes attributes;
+
+        NewFile(BibEntry entry, LinkedFile linkedFile, Path resolvedPath, BasicFileAttributes attributes) {
+            this.entry = entry;
+            this.linkedFile = linkedFile;
+            this.resolvedPath = resolvedPath;
+            this.attributes = attributes;
         }
     }
 }
@@ -6,22 +6,20 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jabref.gui.LibraryTab;
+import org.jabref.logic.pdf.search.PdfIndex;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.pdf.search.EnglishStemAnalyzer;
 import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.strings.StringUtil;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,14 +29,14 @@ public final class PdfSearcher {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
-    private final Directory indexDirectory;
+    private final SearcherManager searcherManager;
 
-    private PdfSearcher(Directory indexDirectory) {
-        this.indexDirectory = indexDirectory;
+    private PdfSearcher(SearcherManager searcherManager) {
+        this.searcherManager = searcherManager;
     }
 
     public static PdfSearcher of(BibDatabaseContext databaseContext) throws IOException {
-        return new PdfSearcher(new NIOFSDirectory(databaseContext.getFulltextIndexPath()));
+        return new PdfSearcher(PdfIndex.of(databaseContext).getSearcherManager());
     }
 
     /**
@@ -57,11 +55,12 @@ public final class PdfSearcher {
             throw new IllegalArgumentException("Must be called with at least 1 maxHits, was" + maxHits);
         }
 
+        // picks up changes of the index writer since the last search
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
         try {
             List<SearchResult> resultDocs = new LinkedList<>();
 
-            IndexReader reader = DirectoryReader.open(indexDirectory);
-            IndexSearcher searcher = new IndexSearcher(reader);
             Query query = new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer()).parse(searchString);
             TopDocs results = searcher.search(query, maxHits);
             for (ScoreDoc scoreDoc : results.scoreDocs) {
@@ -71,6 +70,8 @@ public final class PdfSearcher {
         } catch (ParseException e) {
             LOGGER.warn("Could not parse query: '" + searchString + "'! \n" + e.getMessage());
             return new PdfSearchResults();
+        } finally {
+            searcherManager.release(searcher);
         }
     }
 }
@@ -25,6 +25,12 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    // the matcher of the terms of the enabled lists, see getProtectedTermsMatcher()
+    private ProtectedTermsMatcher matcher;
+    // the enabled lists and their sizes when the matcher was built, to notice changes to the lists
+    private List<ProtectedTermsList> matcherLists = new ArrayList<>();
+    private List<Integer> matcherListSizes = new ArrayList<>();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -121,6 +127,41 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher of the terms of the enabled lists. The matcher is built once and built again only after the
+     * lists have changed, e.g., after a list has been enabled, reloaded, or extended.
+     */
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        List<ProtectedTermsList> enabledLists = new ArrayList<>();
+        List<Integer> enabledListSizes = new ArrayList<>();
+        for (ProtectedTermsList list : mainList) {
+            if (list.isEnabled()) {
+                enabledLists.add(list);
+                enabledListSizes.add(list.getTermList().size());
+            }
+        }
+
+        if ((matcher == null) || !isSameLists(enabledLists, matcherLists) || !enabledListSizes.equals(matcherListSizes)) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherLists = enabledLists;
+            matcherListSizes = enabledListSizes;
+        }
+        return matcher;
+    }
+
+    private static boolean isSameLists(List<ProtectedTermsList> lists, List<ProtectedTermsList> otherLists) {
+        // ProtectedTermsList#equals does not take the terms into account, a reloaded list is another instance
+        if (lists.size() != otherLists.size()) {
+            return false;
+        }
+        for (int i = 0; i < lists.size(); i++) {
+            if (lists.get(i) != otherLists.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
@@ -0,0 +1,105 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finds protected terms in a text and encloses them in {} brackets to preserve their case.
+ * <p>
+ * The terms are stored in a trie, so that a text is searched in a single pass from left to right. A term is protected
+ * if it starts the text or follows a space, -, /, (, [, ", or }, and if it ends the text or is followed by a character
+ * other than an ASCII letter or }. Thus, terms already enclosed in brackets are not protected again. Where several
+ * terms start at the same position, the longest one is protected. Terms are matched literally and case-sensitively.
+ * <p>
+ * A matcher is immutable and may be used concurrently.
+ */
+public class ProtectedTermsMatcher {
+
+    private final Node root = new Node();
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        for (String term : Objects.requireNonNull(terms)) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.children.computeIfAbsent(term.charAt(i), character -> new Node());
+            }
+            node.isTerm = true;
+        }
+    }
+
+    /**
+     * Encloses all protected terms of the given text in {} brackets.
+     */
+    public String protectTerms(String text) {
+        Objects.requireNonNull(text);
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        int position = 0;
+        while (position < text.length()) {
+            if ((position == 0) || isTermStart(text.charAt(position - 1))) {
+                int termEnd = findTermEnd(text, position);
+                if (termEnd > position) {
+                    if (result == null) {
+                        result = new StringBuilder(text.length() + 16);
+                    }
+                    result.append(text, copiedUpTo, position)
+                          .append('{')
+                          .append(text, position, termEnd)
+                          .append('}');
+                    copiedUpTo = termEnd;
+                    position = termEnd;
+                    continue;
+                }
+            }
+            position++;
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+
+    /**
+     * Returns the end of the longest term starting at the given position, or the position if no term starts there.
+     */
+    private int findTermEnd(String text, int start) {
+        int termEnd = start;
+        Node node = root;
+        for (int i = start; i < text.length(); i++) {
+            node = node.children.get(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.isTerm && (((i + 1) == text.length()) || isTermEnd(text.charAt(i + 1)))) {
+                termEnd = i + 1;
+            }
+        }
+        return termEnd;
+    }
+
+    /**
+     * Checks whether a term may start after the given character.
+     */
+    private static boolean isTermStart(char previous) {
+        return (previous == '-') || (previous == ' ') || (previous == '/') || (previous == '[') || (previous == '(')
+                || (previous == '}') || (previous == '"');
+    }
+
+    /**
+     * Checks whether a term may end before the given character.
+     */
+    private static boolean isTermEnd(char next) {
+        return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean isTerm;
+    }
+}
@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,7 +16,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -38,10 +42,19 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private static final String FIELD_KEY = "FIELD_KEY";
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    // the cached statements by their query, used while holding the lock of this processor, see prepareCachedStatement
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+
+    private boolean fieldKeyAvailable;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -104,6 +117,8 @@ public abstract class DBMSProcessor {
      */
     public void setupSharedDatabase() throws SQLException {
         setUp();
+        setUpChangeLog();
+        setUpFieldKey();
 
         if (!checkBaseIntegrity()) {
             // can only happen with users direct intervention on shared database
@@ -118,6 +133,62 @@ public abstract class DBMSProcessor {
      */
     protected abstract void setUp() throws SQLException;
 
+    /**
+     * Creates the change log table if it does not exist yet, e.g., in a shared database set up by an older JabRef version.
+     * The change log records the shared id of every inserted, updated or removed entry under an increasing sequence
+     * number, so that clients can pull only the entries changed since they last synchronized.
+     *
+     * @throws SQLException
+     */
+    public void setUpChangeLog() throws SQLException {
+        if (!checkTableAvailability("CHANGELOG")) {
+            createChangeLogTable();
+        }
+    }
+
+    /**
+     * Creates a unique key on the entry and the name of the FIELD table if it does not exist yet, e.g., in a shared
+     * database set up by an older JabRef version. With the key, {@link #updateEntry(BibEntry)} writes all fields of an
+     * entry with one batch of upserts. If the key cannot be created, e.g., because a field of an entry is stored twice,
+     * the fields are updated or inserted depending on the fields of the shared entry.
+     */
+    public void setUpFieldKey() {
+        try {
+            if (!checkIndexAvailability("FIELD", FIELD_KEY)) {
+                connection.createStatement().executeUpdate(
+                        "CREATE UNIQUE INDEX " + escape(FIELD_KEY) + " ON " + escape("FIELD") +
+                                " (" + escape("ENTRY_SHARED_ID") + ", " + escape("NAME") + ")");
+            }
+            fieldKeyAvailable = true;
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up the key of the FIELD table", e);
+            fieldKeyAvailable = false;
+        }
+    }
+
+    /**
+     * Checks whether the given index (<b>case insensitive</b>) exists on the given table of the current schema.
+     */
+    private boolean checkIndexAvailability(String tableName, String indexName) throws SQLException {
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        // approximate: Oracle would compute the table statistics otherwise
+        try (ResultSet indexResultSet = databaseMetaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, true, true)) {
+            while (indexResultSet.next()) {
+                if (indexName.equalsIgnoreCase(indexResultSet.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Creates the change log table with an automatically increasing SEQUENCE_NUMBER column and an ENTRY_SHARED_ID column.
+     *
+     * @throws SQLException
+     */
+    protected abstract void createChangeLogTable() throws SQLException;
+
     /**
      * Escapes parts of SQL expressions such as a table name or a field name to match the conventions of the database
      * system using the current dbmsType.
@@ -143,13 +214,18 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    public void insertEntries(List<BibEntry> bibEntries) {
+    public synchronized void insertEntries(List<BibEntry> bibEntries) {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
         insertIntoEntryTable(notYetExistingEntries);
         insertIntoFieldTable(notYetExistingEntries);
+        try {
+            logChanges(notYetExistingEntries);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
     }
 
     /**
@@ -288,6 +364,21 @@ public abstract class DBMSProcessor {
      * @throws SQLException
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        updateEntry(localBibEntry, field -> true);
+    }
+
+    /**
+     * Updates the given fields and the type of the {@link BibEntry} on shared database. Fields not given are left as
+     * they are on shared database.
+     *
+     * @param localBibEntry {@link BibEntry} affected by changes
+     * @param fields        the changed fields, a field not set locally is removed
+     */
+    public void updateEntryFields(BibEntry localBibEntry, Set<Field> fields) throws OfflineLockException, SQLException {
+        updateEntry(localBibEntry, fields::contains);
+    }
+
+    private synchronized void updateEntry(BibEntry localBibEntry, Predicate<Field> isUpdatedField) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
@@ -300,13 +391,13 @@ public abstract class DBMSProcessor {
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
             // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry, isUpdatedField);
 
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry, isUpdatedField);
 
                 // updating entry type
                 StringBuilder updateEntryTypeQuery = new StringBuilder()
@@ -322,13 +413,15 @@ public abstract class DBMSProcessor {
                         .append(escape("SHARED_ID"))
                         .append(" = ?");
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+                PreparedStatement preparedUpdateEntryTypeStatement = prepareCachedStatement(updateEntryTypeQuery.toString());
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.executeUpdate();
+                logChanges(Collections.singletonList(localBibEntry));
 
                 connection.commit(); // apply all changes in current transaction
+                // the local entry is the newest version now
+                localBibEntry.getSharedBibEntryData().setVersion(sharedBibEntry.getSharedBibEntryData().getVersion() + 1);
             } else {
                 throw new OfflineLockException(localBibEntry, sharedBibEntry);
             }
@@ -343,98 +436,133 @@ public abstract class DBMSProcessor {
     /**
      * Helping method. Removes shared fields which do not exist locally
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry, Predicate<Field> isUpdatedField) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
-                    .append("DELETE FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+        nullFields.removeIf(isUpdatedField.negate());
+        if (nullFields.isEmpty()) {
+            return;
+        }
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
+        StringBuilder deleteFieldQuery = new StringBuilder()
+                .append("DELETE FROM ")
+                .append(escape("FIELD"))
+                .append(" WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+
+        PreparedStatement preparedDeleteFieldStatement = prepareCachedStatement(deleteFieldQuery.toString());
+        for (Field nullField : nullFields) {
+            preparedDeleteFieldStatement.setString(1, nullField.getName());
+            preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+            preparedDeleteFieldStatement.addBatch();
         }
+        preparedDeleteFieldStatement.executeBatch();
     }
 
     /**
      * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+     * update is performed. All fields are written in one batch.
+     *
+     * @param sharedBibEntry the shared entry read in the current transaction. If the FIELD table has no key, its fields
+     *                       determine whether a field is updated or inserted.
+     */
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry, Predicate<Field> isUpdatedField) throws SQLException {
+        List<Field> fields = localBibEntry.getFields().stream().filter(isUpdatedField).collect(Collectors.toList());
+        if (fields.isEmpty()) {
+            return;
+        }
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+
+        if (fieldKeyAvailable) {
+            PreparedStatement preparedUpsertFieldStatement = prepareCachedStatement(getUpsertFieldQuery());
+            for (Field field : fields) {
+                preparedUpsertFieldStatement.setInt(1, sharedID);
+                preparedUpsertFieldStatement.setString(2, field.getName());
+                preparedUpsertFieldStatement.setString(3, localBibEntry.getField(field).orElse(null));
+                preparedUpsertFieldStatement.addBatch();
             }
+            preparedUpsertFieldStatement.executeBatch();
+            return;
+        }
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+
+        PreparedStatement preparedUpdateFieldStatement = prepareCachedStatement(updateFieldQuery.toString());
+        PreparedStatement preparedInsertFieldStatement = prepareCachedStatement(insertFieldQuery.toString());
+        boolean hasUpdates = false;
+        boolean hasInserts = false;
+        for (Field field : fields) {
+            String value = localBibEntry.getField(field).orElse(null);
+            if (sharedBibEntry.hasField(field)) {
+                preparedUpdateFieldStatement.setString(1, value);
+                preparedUpdateFieldStatement.setString(2, field.getName());
+                preparedUpdateFieldStatement.setInt(3, sharedID);
+                preparedUpdateFieldStatement.addBatch();
+                hasUpdates = true;
+            } else {
+                preparedInsertFieldStatement.setInt(1, sharedID);
+                preparedInsertFieldStatement.setString(2, field.getName());
+                preparedInsertFieldStatement.setString(3, value);
+                preparedInsertFieldStatement.addBatch();
+                hasInserts = true;
             }
         }
+        if (hasUpdates) {
+            preparedUpdateFieldStatement.executeBatch();
+        }
+        if (hasInserts) {
+            preparedInsertFieldStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Returns the query inserting a field of an entry into the FIELD table or updating its value if the entry has the
+     * field already. The parameters are the ENTRY_SHARED_ID, the NAME and the VALUE. The query is used only if the
+     * FIELD table has a unique key on the entry and the name, see {@link #setUpFieldKey()}.
+     */
+    abstract String getUpsertFieldQuery();
+
+    /**
+     * Returns a prepared statement for the given query. The statement is prepared once and reused afterwards, thus it
+     * must not be closed by the caller.
+     * <p>
+     * The statements share the connection and are reused by all threads. Thus, the caller has to hold the lock of this
+     * processor from preparing the statement until it is executed, so that no other thread binds or batches the
+     * statement in between. The writing methods hold the lock for their whole transaction.
+     */
+    private PreparedStatement prepareCachedStatement(String query) throws SQLException {
+        assert Thread.holdsLock(this) : "Cached statements are used while holding the lock of the processor only";
+        PreparedStatement preparedStatement = preparedStatements.get(query);
+        if ((preparedStatement == null) || preparedStatement.isClosed()) {
+            preparedStatement = connection.prepareStatement(query);
+            preparedStatements.put(query, preparedStatement);
+        } else {
+            // a batch is left over if its execution failed
+            preparedStatement.clearBatch();
+        }
+        return preparedStatement;
     }
 
     /**
@@ -442,7 +570,7 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries {@link BibEntry} to be deleted
      */
-    public void removeEntries(List<BibEntry> bibEntries) {
+    public synchronized void removeEntries(List<BibEntry> bibEntries) {
         Objects.requireNonNull(bibEntries);
         if (bibEntries.isEmpty()) {
             return;
@@ -461,11 +589,127 @@ public abstract class DBMSProcessor {
                 preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
             }
             preparedStatement.executeUpdate();
+            logChanges(bibEntries);
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
     }
 
+    /**
+     * Records the given entries as changed in the change log.
+     *
+     * @param bibEntries {@link BibEntry} which were inserted, updated or removed
+     */
+    private void logChanges(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder insertChangeQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("CHANGELOG"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(") VALUES(?)");
+
+        PreparedStatement preparedChangeStatement = prepareCachedStatement(insertChangeQuery.toString());
+        for (BibEntry bibEntry : bibEntries) {
+            preparedChangeStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+            preparedChangeStatement.addBatch();
+        }
+        preparedChangeStatement.executeBatch();
+    }
+
+    /**
+     * Returns the highest sequence number of the change log, or 0 if the change log is empty.
+     */
+    public long getLastChangeSequenceNumber() {
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT MAX(")
+                .append(escape("SEQUENCE_NUMBER"))
+                .append(") FROM ")
+                .append(escape("CHANGELOG"));
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery.toString())) {
+            if (resultSet.next()) {
+                // MAX of no rows is NULL, which is read as 0
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the lowest sequence number of the change log, or 0 if the change log is empty. Older changes have been
+     * removed by {@link #removeChangesUpTo(long)}.
+     */
+    public long getFirstChangeSequenceNumber() {
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT MIN(")
+                .append(escape("SEQUENCE_NUMBER"))
+                .append(") FROM ")
+                .append(escape("CHANGELOG"));
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery.toString())) {
+            if (resultSet.next()) {
+                // MIN of no rows is NULL, which is read as 0
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the changes up to and including the given sequence number from the change log.
+     */
+    public synchronized void removeChangesUpTo(long sequenceNumber) {
+        StringBuilder deleteQuery = new StringBuilder()
+                .append("DELETE FROM ")
+                .append(escape("CHANGELOG"))
+                .append(" WHERE ")
+                .append(escape("SEQUENCE_NUMBER"))
+                .append(" <= ?");
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery.toString())) {
+            preparedStatement.setLong(1, sequenceNumber);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+    }
+
+    /**
+     * Retrieves the changes recorded after the given sequence number.
+     *
+     * @return the shared ids of the changed entries by the sequence number of the change, in order of the sequence
+     * numbers
+     */
+    public SortedMap<Long, Integer> getChangesAfter(long sequenceNumber) {
+        SortedMap<Long, Integer> changes = new TreeMap<>();
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT ")
+                .append(escape("SEQUENCE_NUMBER"))
+                .append(", ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" FROM ")
+                .append(escape("CHANGELOG"))
+                .append(" WHERE ")
+                .append(escape("SEQUENCE_NUMBER"))
+                .append(" > ?");
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.toString())) {
+            preparedStatement.setLong(1, sequenceNumber);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    changes.put(resultSet.getLong("SEQUENCE_NUMBER"), resultSet.getInt("ENTRY_SHARED_ID"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return changes;
+    }
+
     /**
      * @param sharedID Entry ID
      * @return instance of {@link BibEntry}
@@ -577,6 +821,45 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION for the given shared ids. Ids of entries which do
+     * not exist (anymore) are not contained.
+     */
+    public Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        List<Integer> remainingIDs = new ArrayList<>(sharedIDs);
+        // some database systems limit the number of expressions in a list
+        for (int start = 0; start < remainingIDs.size(); start += MAX_IDS_PER_QUERY) {
+            List<Integer> ids = remainingIDs.subList(start, Math.min(start + MAX_IDS_PER_QUERY, remainingIDs.size()));
+            StringBuilder selectEntryQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(", ")
+                    .append(escape("VERSION"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN (")
+                    .append("?, ".repeat(ids.size() - 1))
+                    .append("?)");
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectEntryQuery.toString())) {
+                for (int i = 0; i < ids.size(); i++) {
+                    preparedStatement.setInt(i + 1, ids.get(i));
+                }
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    while (selectEntryResultSet.next()) {
+                        sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+        return sharedIDVersionMapping;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -681,4 +964,15 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about the given changed
+     * entries, so that they can pull just these entries. By default, the clients are notified without details, see
+     * {@link #notifyClients()}.
+     *
+     * @param changedIDVersions the versions of the changed entries by their shared id, 0 for removed entries
+     */
+    public void notifyClients(Map<Integer, Integer> changedIDVersions) {
+        notifyClients();
+    }
 }
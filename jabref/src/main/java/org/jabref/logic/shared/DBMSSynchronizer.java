@@ -3,11 +3,17 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
@@ -19,14 +25,17 @@ import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -38,12 +47,22 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Synchronizes the shared or local databases with their opposite side. Local changes are pushed by {@link EntriesEvent}
- * using Google's Guava EventBus.
+ * using Google's Guava EventBus. The listeners only enqueue the changes, which are written in the background by a
+ * {@link WriteBehindQueue}.
+ * <p>
+ * All accesses to the shared database, i.e., the writes as well as the pulls of the shared changes, run one after
+ * another on the writer thread of the queue. Thus, the synchronization changes the local database on that thread only,
+ * and two pulls never insert the same shared entry twice or interfere in the transactions of the shared connection.
  */
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    private static final int CHANGE_LOG_LOOKBACK = 100;
+    // The number of the latest changes kept in the change log. Older changes are removed after writing, a client whose
+    // last synchronization is older than the kept changes compares all entries instead, see synchronizeChangedEntries
+    private static final int CHANGE_LOG_RETENTION = 10_000;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -54,7 +73,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final Character keywordSeparator;
     private final GlobalCitationKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
-    private Optional<BibEntry> lastEntryChanged;
+    // the last change of an entry still being edited, which is written with the next change
+    private volatile Optional<FieldChangedEvent> lastEntryChanged;
+    private final WriteBehindQueue writeBehindQueue;
+
+    // Highest sequence number of the change log seen so far, -1 if the change log is not used
+    private volatile long lastChangeSequenceNumber = -1;
+    // Sequence numbers of the applied changes which are read again, see synchronizeChangedEntries
+    private final NavigableSet<Long> appliedChanges = new ConcurrentSkipListSet<>();
+    // Local entries by their shared id, kept up to date by the listeners and the synchronization, see getLocalEntries
+    private final Map<Integer, BibEntry> localEntriesBySharedID = new ConcurrentHashMap<>();
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalCitationKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
@@ -66,6 +94,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
         this.lastEntryChanged = Optional.empty();
+        this.writeBehindQueue = new WriteBehindQueue(this::writeChanges);
     }
 
     /**
@@ -75,15 +104,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(EntriesAddedEvent event) {
+        // entries inserted by the synchronization or re-inserted by undo have a shared id already
+        for (BibEntry bibEntry : event.getBibEntries()) {
+            indexLocalEntry(bibEntry);
+        }
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeLocalDatabase();
-            dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
+        if (isWrittenChange(event)) {
+            enqueueLastEntryChanged();
+            for (BibEntry bibEntry : event.getBibEntries()) {
+                writeBehindQueue.enqueueInsert(bibEntry);
+            }
         }
     }
 
@@ -97,14 +128,32 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        if (!isWrittenChange(event)) {
+            return;
+        }
+        if (isPresentLocalBibEntry(bibEntry) && !event.isFilteredOut()) {
+            enqueueLastEntryChanged();
+            writeBehindQueue.enqueueUpdate(bibEntry, event.getField());
         } else {
             // Set new BibEntry that has been changed last
-            lastEntryChanged = Optional.of(bibEntry);
+            lastEntryChanged = Optional.of(event);
+        }
+    }
+
+    /**
+     * Listening method. Updates the shared {@link BibEntry}s changed in a batch edit.
+     *
+     * @param event {@link EntriesChangedEvent} object
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (isWrittenChange(event)) {
+            enqueueLastEntryChanged();
+            for (FieldChangedEvent fieldChange : event.getFieldChanges()) {
+                if (isPresentLocalBibEntry(fieldChange.getBibEntry())) {
+                    writeBehindQueue.enqueueUpdate(fieldChange.getBibEntry(), fieldChange.getField());
+                }
+            }
         }
     }
 
@@ -116,13 +165,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
+        for (BibEntry bibEntry : event.getBibEntries()) {
+            localEntriesBySharedID.remove(bibEntry.getSharedBibEntryData().getSharedID(), bibEntry);
+        }
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            dbmsProcessor.removeEntries(event.getBibEntries());
-            synchronizeLocalDatabase();
+        if (isWrittenChange(event)) {
+            enqueueLastEntryChanged();
+            for (BibEntry bibEntry : event.getBibEntries()) {
+                writeBehindQueue.enqueueRemoval(bibEntry);
+            }
         }
     }
 
@@ -133,12 +185,106 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(MetaDataChangedEvent event) {
-        if (checkCurrentConnection()) {
-            synchronizeSharedMetaData(event.getMetaData(), globalCiteKeyPattern);
-            synchronizeLocalDatabase();
+        writeBehindQueue.enqueueMetaDataChange(event.getMetaData());
+    }
+
+    /**
+     * Writes the changes taken from the {@link WriteBehindQueue} to the shared database and pulls the shared changes
+     * afterwards. Runs on the writer thread of the queue.
+     */
+    private void writeChanges(WriteBehindQueue.Changes changes) {
+        if (!checkCurrentConnection()) {
+            LOGGER.warn("Discarding {} local changes, as the connection to the shared database is lost", changes.getWrites().size());
+            return;
+        }
+
+        if (changes.getChangedMetaData().isPresent()) {
+            synchronizeSharedMetaData(changes.getChangedMetaData().get(), globalCiteKeyPattern);
+        } else {
+            synchronizeLocalMetaData();
+        }
+
+        // the versions of the written entries by their shared id, announced to the other clients
+        Map<Integer, Integer> writtenIDVersions = new HashMap<>();
+
+        List<BibEntry> insertedEntries = changes.getEntries(WriteBehindQueue.WriteType.INSERT);
+        if (!insertedEntries.isEmpty()) {
+            dbmsProcessor.insertEntries(insertedEntries);
+            for (BibEntry bibEntry : insertedEntries) {
+                int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+                if (sharedID != -1) {
+                    localEntriesBySharedID.put(sharedID, bibEntry);
+                    writtenIDVersions.put(sharedID, bibEntry.getSharedBibEntryData().getVersion());
+                }
+            }
+        }
+
+        for (WriteBehindQueue.PendingWrite write : changes.getWrites()) {
+            BibEntry bibEntry = write.getEntry();
+            if ((write.getType() == WriteBehindQueue.WriteType.UPDATE) && isPresentLocalBibEntry(bibEntry)
+                    && writeSharedEntry(bibEntry, write.getFields())) {
+                writtenIDVersions.put(bibEntry.getSharedBibEntryData().getSharedID(), bibEntry.getSharedBibEntryData().getVersion());
+            }
+        }
+
+        List<BibEntry> removedEntries = changes.getEntries(WriteBehindQueue.WriteType.REMOVE);
+        if (!removedEntries.isEmpty()) {
+            dbmsProcessor.removeEntries(removedEntries);
+            for (BibEntry bibEntry : removedEntries) {
+                writtenIDVersions.put(bibEntry.getSharedBibEntryData().getSharedID(), 0);
+            }
+        }
+
+        synchronizeLocalDatabase(); // Pull changes for the case that there were some
+
+        if (changes.getChangedMetaData().isPresent()) {
             applyMetaData();
             dbmsProcessor.notifyClients();
+        } else if (!writtenIDVersions.isEmpty()) {
+            dbmsProcessor.notifyClients(writtenIDVersions);
+        }
+
+        if (!writtenIDVersions.isEmpty()) {
+            pruneChangeLog();
+        }
+    }
+
+    /**
+     * Removes the changes older than the last {@link #CHANGE_LOG_RETENTION} changes from the change log, so that it does
+     * not grow without bound.
+     */
+    private void pruneChangeLog() {
+        long lastKeptSequenceNumber = lastChangeSequenceNumber - CHANGE_LOG_RETENTION;
+        if (lastKeptSequenceNumber > 0) {
+            dbmsProcessor.removeChangesUpTo(lastKeptSequenceNumber);
+        }
+    }
+
+    /**
+     * Writes the given fields of an entry, or the whole entry, after applying the save actions.
+     *
+     * @return <code>true</code> if the entry was written, <code>false</code> if the update was refused or failed
+     */
+    private boolean writeSharedEntry(BibEntry bibEntry, Optional<Set<Field>> fields) {
+        try {
+            List<FieldChange> saveActionChanges = BibDatabaseWriter.applySaveActions(bibEntry, metaData);
+            if (fields.isPresent()) {
+                Set<Field> changedFields = new HashSet<>(fields.get());
+                for (FieldChange saveActionChange : saveActionChanges) {
+                    changedFields.add(saveActionChange.getField());
+                }
+                dbmsProcessor.updateEntryFields(bibEntry, changedFields);
+            } else {
+                dbmsProcessor.updateEntry(bibEntry);
+            }
+            return true;
+        } catch (OfflineLockException exception) {
+            writeBehindQueue.recordRefusedUpdate();
+            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
         }
+        return false;
     }
 
     /**
@@ -165,64 +311,250 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             throw new IllegalStateException(e);
         }
 
+        dbmsProcessor.setUpFieldKey();
         dbmsProcessor.startNotificationListener(this);
-        synchronizeLocalMetaData();
-        synchronizeLocalDatabase();
+        writeBehindQueue.runOnWriterThread(() -> {
+            synchronizeLocalMetaData();
+            // changes made while all entries are pulled are pulled again later
+            initializeChangeLog();
+            indexLocalEntries();
+            if (checkCurrentConnection()) {
+                synchronizeAllEntries();
+            }
+        });
     }
 
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
-     * {@link BibEntry}.
+     * {@link BibEntry}. If the shared database has a change log, only the entries changed since the last synchronization
+     * are pulled. Runs on the writer thread and waits until the changes are pulled.
      */
     @Override
     public void synchronizeLocalDatabase() {
-        if (!checkCurrentConnection()) {
-            return;
+        writeBehindQueue.runOnWriterThread(() -> {
+            if (!checkCurrentConnection()) {
+                return;
+            }
+
+            if (lastChangeSequenceNumber < 0) {
+                synchronizeAllEntries();
+            } else {
+                synchronizeChangedEntries();
+            }
+        });
+    }
+
+    /**
+     * Sets up the change log of the shared database and remembers its current state. Changes made afterwards are pulled
+     * by {@link #synchronizeChangedEntries()}.
+     */
+    private void initializeChangeLog() {
+        appliedChanges.clear();
+        try {
+            dbmsProcessor.setUpChangeLog();
+            lastChangeSequenceNumber = dbmsProcessor.getLastChangeSequenceNumber();
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up change log, all entries are compared on each synchronization", e);
+            lastChangeSequenceNumber = -1;
         }
+    }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+    /**
+     * Compares all local entries with the shared ones.
+     */
+    private void synchronizeAllEntries() {
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+        applySharedVersions(idVersionMap, getLocalEntries(idVersionMap.keySet()));
+    }
+
+    /**
+     * Pulls the entries recorded in the change log since the last synchronization.
+     */
+    private void synchronizeChangedEntries() {
+        if (dbmsProcessor.getFirstChangeSequenceNumber() > (lastChangeSequenceNumber + 1)) {
+            // the changes since the last synchronization have been removed from the change log, see pruneChangeLog
+            LOGGER.info("Changes since the last synchronization are not logged anymore, comparing all entries");
+            appliedChanges.clear();
+            lastChangeSequenceNumber = dbmsProcessor.getLastChangeSequenceNumber();
+            synchronizeAllEntries();
+            return;
+        }
+
+        // a change with a lower sequence number may be committed after one with a higher number, thus the last changes
+        // are read again and those not applied yet are taken
+        SortedMap<Long, Integer> changes = dbmsProcessor.getChangesAfter(Math.max(0, lastChangeSequenceNumber - CHANGE_LOG_LOOKBACK));
+        changes.keySet().removeAll(appliedChanges);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> changedIDs = new HashSet<>(changes.values());
+        synchronizeEntries(changedIDs, getLocalEntries(changedIDs));
+
+        appliedChanges.addAll(changes.keySet());
+        lastChangeSequenceNumber = Math.max(lastChangeSequenceNumber, changes.lastKey());
+        appliedChanges.headSet(lastChangeSequenceNumber - CHANGE_LOG_LOOKBACK, true).clear();
+    }
+
+    /**
+     * Pulls the given shared entries, e.g., announced by a notification of another client. Entries whose local version
+     * is up to date already are skipped. The entries are pulled on the writer thread, without waiting for them, so that
+     * the calling listener thread does not access the local or the shared database.
+     *
+     * @param sharedIDVersions the versions of the changed shared entries by their shared id, 0 for removed entries
+     */
+    public void pullChangedEntries(Map<Integer, Integer> sharedIDVersions) {
+        Map<Integer, Integer> changedIDVersions = Map.copyOf(sharedIDVersions);
+        writeBehindQueue.submitToWriterThread(() -> pullEntries(changedIDVersions));
+    }
+
+    private void pullEntries(Map<Integer, Integer> sharedIDVersions) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        // First write the local changes, then synchronize the changed entries
+        writePendingChanges();
+
+        Map<Integer, BibEntry> localEntries = getLocalEntries(sharedIDVersions.keySet());
+        Set<Integer> outdatedIDs = new HashSet<>();
+        for (Map.Entry<Integer, Integer> idVersion : sharedIDVersions.entrySet()) {
+            BibEntry localEntry = localEntries.get(idVersion.getKey());
+            if ((idVersion.getValue() == 0) || (localEntry == null)
+                    || (localEntry.getSharedBibEntryData().getVersion() < idVersion.getValue())) {
+                outdatedIDs.add(idVersion.getKey());
+            }
+        }
+        if (!outdatedIDs.isEmpty()) {
+            synchronizeEntries(outdatedIDs, localEntries);
+        }
+    }
+
+    /**
+     * Pulls the shared entries with the given ids, including their removal.
+     *
+     * @param localEntries the local entries by their shared id, see {@link #getLocalEntries(Set)}
+     */
+    private void synchronizeEntries(Set<Integer> sharedIDs, Map<Integer, BibEntry> localEntries) {
+        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping(sharedIDs);
+
+        // changed entries not existing anymore have been removed
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        for (Integer sharedID : sharedIDs) {
+            if (!idVersionMap.containsKey(sharedID) && localEntries.containsKey(sharedID)) {
+                entriesToRemove.add(localEntries.get(sharedID));
+            }
+        }
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+        applySharedVersions(idVersionMap, localEntries);
+    }
+
+    /**
+     * Updates the local entries whose shared version is newer and inserts the shared entries not existing locally.
+     *
+     * @param idVersionMap the versions of the shared entries by their shared id
+     * @param localEntries the local entries by their shared id, see {@link #getLocalEntries(Set)}
+     */
+    private void applySharedVersions(Map<Integer, Integer> idVersionMap, Map<Integer, BibEntry> localEntries) {
+        List<Integer> entriesToUpdate = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntries.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdate.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdate.isEmpty()) {
+            // the changes are posted at once after all entries are updated
+            try (BibDatabase.BatchEdit batchEdit = bibDatabase.startBatchEdit(EntriesEventSource.SHARED)) {
+                for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(entriesToUpdate)) {
+                    BibEntry localEntry = localEntries.get(sharedEntry.getSharedBibEntryData().getSharedID());
+                    // update fields
+                    localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+                    localEntry.getSharedBibEntryData()
+                              .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                    sharedEntry.getFieldMap().forEach(
+                            // copy remote values to local entry
+                            (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+                    );
+
+                    // locally remove not existing fields
+                    localEntry.getFields().stream()
+                              .filter(field -> !sharedEntry.hasField(field))
+                              .forEach(
+                                      field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                              );
+                }
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.getSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            List<BibEntry> sharedEntries = dbmsProcessor.getSharedEntries(entriesToInsertIntoLocalDatabase);
+            bibDatabase.insertEntries(sharedEntries, EntriesEventSource.SHARED);
+            for (BibEntry sharedEntry : sharedEntries) {
+                localEntriesBySharedID.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+            }
+        }
+    }
+
+    /**
+     * Looks up the local entries with the given shared ids in the index of the local entries. As the index is kept up to
+     * date, a shared id not found in it belongs to a shared entry not existing locally, e.g., a new entry of another
+     * client.
+     *
+     * @return the found entries by their shared id
+     */
+    private Map<Integer, BibEntry> getLocalEntries(Set<Integer> sharedIDs) {
+        Map<Integer, BibEntry> localEntries = new HashMap<>();
+        for (Integer sharedID : sharedIDs) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            if (localEntry == null) {
+                continue;
+            }
+            if (isIndexedEntryValid(sharedID, localEntry)) {
+                localEntries.put(sharedID, localEntry);
+            } else {
+                localEntriesBySharedID.remove(sharedID, localEntry);
+            }
         }
+        return localEntries;
+    }
+
+    /**
+     * Indexes all local entries having a shared id. Afterwards, the index is kept up to date by the listeners and the
+     * synchronization.
+     */
+    private void indexLocalEntries() {
+        localEntriesBySharedID.clear();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            indexLocalEntry(localEntry);
+        }
+    }
+
+    private void indexLocalEntry(BibEntry localEntry) {
+        int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+        if (sharedID == -1) {
+            return;
+        }
+        // the first entry with the shared id is kept, as long as it is present
+        BibEntry indexedEntry = localEntriesBySharedID.get(sharedID);
+        if ((indexedEntry == null) || !isIndexedEntryValid(sharedID, indexedEntry)) {
+            localEntriesBySharedID.put(sharedID, localEntry);
+        }
+    }
+
+    private boolean isIndexedEntryValid(int sharedID, BibEntry localEntry) {
+        return (localEntry.getSharedBibEntryData().getSharedID() == sharedID) && isPresentLocalBibEntry(localEntry);
     }
 
     /**
@@ -248,35 +580,39 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Override
     public void synchronizeSharedEntry(BibEntry bibEntry) {
-        if (!checkCurrentConnection()) {
-            return;
-        }
-        try {
-            BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
-            dbmsProcessor.updateEntry(bibEntry);
-        } catch (OfflineLockException exception) {
-            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error", e);
-        }
+        writeBehindQueue.runOnWriterThread(() -> {
+            if (!checkCurrentConnection()) {
+                return;
+            }
+            try {
+                BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+                dbmsProcessor.updateEntry(bibEntry);
+            } catch (OfflineLockException exception) {
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        });
     }
 
     /**
      * Synchronizes all meta data locally.
      */
     public void synchronizeLocalMetaData() {
-        if (!checkCurrentConnection()) {
-            return;
-        }
+        writeBehindQueue.runOnWriterThread(() -> {
+            if (!checkCurrentConnection()) {
+                return;
+            }
 
-        try {
-            metaData.setEventPropagation(false);
-            MetaDataParser parser = new MetaDataParser(fileMonitor);
-            parser.parse(metaData, dbmsProcessor.getSharedMetaData(), keywordSeparator);
-            metaData.setEventPropagation(true);
-        } catch (ParseException e) {
-            LOGGER.error("Parse error", e);
-        }
+            try {
+                metaData.setEventPropagation(false);
+                MetaDataParser parser = new MetaDataParser(fileMonitor);
+                parser.parse(metaData, dbmsProcessor.getSharedMetaData(), keywordSeparator);
+                metaData.setEventPropagation(true);
+            } catch (ParseException e) {
+                LOGGER.error("Parse error", e);
+            }
+        });
     }
 
     /**
@@ -297,55 +633,65 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * Applies the {@link MetaData} on all local and shared BibEntries.
      */
     public void applyMetaData() {
-        if (!checkCurrentConnection()) {
-            return;
-        }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
+        writeBehindQueue.runOnWriterThread(() -> {
+            if (!checkCurrentConnection()) {
+                return;
+            }
+            for (BibEntry bibEntry : bibDatabase.getEntries()) {
+                try {
+                    // synchronize only if changes were present
+                    if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
+                        dbmsProcessor.updateEntry(bibEntry);
+                    }
+                } catch (OfflineLockException exception) {
+                    eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+                } catch (SQLException e) {
+                    LOGGER.error("SQL Error: ", e);
                 }
-            } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
             }
-        }
+        });
     }
 
     /**
-     * Synchronizes the local BibEntries and applies the fetched MetaData on them.
+     * Synchronizes the local BibEntries and applies the fetched MetaData on them. Waits until the changes are pulled,
+     * which runs on the writer thread.
      */
     @Override
     public void pullChanges() {
-        if (!checkCurrentConnection()) {
-            return;
-        }
-        // First synchronize entry, then synchronize database
-        pullWithLastEntry();
-        synchronizeLocalDatabase();
-        synchronizeLocalMetaData();
-    }
-
-    // Synchronizes local BibEntries only if last entry changes still remain
-    public void pullLastEntryChanges() {
-        if (!lastEntryChanged.isEmpty()) {
+        writeBehindQueue.runOnWriterThread(() -> {
             if (!checkCurrentConnection()) {
                 return;
             }
+            // First write the local changes, then synchronize database
+            writePendingChanges();
+            synchronizeLocalDatabase();
             synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
-        }
+        });
     }
 
-    // Synchronizes local BibEntries and pulls remaining last entry changes
-    private void pullWithLastEntry() {
-        if (!lastEntryChanged.isEmpty() && isPresentLocalBibEntry(lastEntryChanged.get())) {
-            synchronizeSharedEntry(lastEntryChanged.get());
-        }
+    /**
+     * Pulls all changes like {@link #pullChanges()}, but without waiting for them, e.g., when notified by another client.
+     */
+    public void pullChangesInBackground() {
+        writeBehindQueue.submitToWriterThread(this::pullChanges);
+    }
+
+    /**
+     * Writes all local changes, including the last change of an entry still being edited, and waits until they are
+     * written.
+     */
+    public void writePendingChanges() {
+        enqueueLastEntryChanged();
+        writeBehindQueue.flush();
+    }
+
+    // Enqueues the last entry change which has not been written yet, as the entry was still being edited
+    private void enqueueLastEntryChanged() {
+        Optional<FieldChangedEvent> lastChange = lastEntryChanged;
         lastEntryChanged = Optional.empty();
+        if (lastChange.isPresent() && isPresentLocalBibEntry(lastChange.get().getBibEntry())) {
+            writeBehindQueue.enqueueUpdate(lastChange.get().getBibEntry(), lastChange.get().getField());
+        }
     }
 
     /**
@@ -380,6 +726,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         return ((eventSource == EntriesEventSource.LOCAL) || (eventSource == EntriesEventSource.UNDO));
     }
 
+    /**
+     * Checks whether the change of an {@link EntriesEvent} has to be written to the shared database. Changes made by the
+     * writer itself, e.g., by save actions, are written directly.
+     */
+    private boolean isWrittenChange(EntriesEvent event) {
+        return isEventSourceAccepted(event) && !writeBehindQueue.isWriterThread();
+    }
+
     @Override
     public void openSharedDatabase(DatabaseConnection connection) throws DatabaseNotSupportedException {
         this.dbName = connection.getProperties().getDatabase();
@@ -391,7 +745,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     @Override
     public void closeSharedDatabase() {
         // Submit remaining entry changes
-        pullLastEntryChanges();
+        enqueueLastEntryChanged();
+        writeBehindQueue.shutdown();
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
@@ -401,7 +756,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.getEntryById(bibEntry.getId()).filter(entry -> entry == bibEntry).isPresent();
     }
 
     @Override
@@ -409,6 +764,13 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         return dbName;
     }
 
+    /**
+     * Returns the queue of the local changes to be written, e.g., to monitor its state.
+     */
+    public WriteBehindQueue getWriteBehindQueue() {
+        return writeBehindQueue;
+    }
+
     public DBMSProcessor getDBProcessor() {
         return dbmsProcessor;
     }
@@ -37,6 +37,20 @@ public class MySQLProcessor extends DBMSProcessor {
                         "`VALUE` text NOT NULL)");
     }
 
+    @Override
+    protected void createChangeLogTable() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `CHANGELOG` (" +
+                        "`SEQUENCE_NUMBER` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                        "`ENTRY_SHARED_ID` INT(11) NOT NULL)");
+    }
+
+    @Override
+    String getUpsertFieldQuery() {
+        return "INSERT INTO `FIELD` (`ENTRY_SHARED_ID`, `NAME`, `VALUE`) VALUES(?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE `VALUE` = VALUES(`VALUE`)";
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
@@ -65,6 +65,30 @@ public class OracleProcessor extends DBMSProcessor {
                         "\"VALUE\"  CLOB NOT NULL)");
     }
 
+    @Override
+    protected void createChangeLogTable() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE \"CHANGELOG\" (" +
+                        "\"SEQUENCE_NUMBER\" NUMBER NOT NULL, " +
+                        "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                        "CONSTRAINT \"CHANGELOG_PK\" PRIMARY KEY (\"SEQUENCE_NUMBER\"))");
+
+        connection.createStatement().executeUpdate("CREATE SEQUENCE \"CHANGELOG_SEQ\"");
+
+        connection.createStatement().executeUpdate("CREATE TRIGGER \"CHANGELOG_T\" BEFORE INSERT ON \"CHANGELOG\" " +
+                "FOR EACH ROW BEGIN SELECT \"CHANGELOG_SEQ\".NEXTVAL INTO :NEW.sequence_number FROM DUAL; END;");
+    }
+
+    @Override
+    String getUpsertFieldQuery() {
+        // VALUE is a CLOB column, thus the bound value is converted to match it
+        return "MERGE INTO \"FIELD\" F USING (SELECT ? AS \"ENTRY_SHARED_ID\", ? AS \"NAME\", TO_CLOB(?) AS \"VALUE\" FROM DUAL) S " +
+                "ON (F.\"ENTRY_SHARED_ID\" = S.\"ENTRY_SHARED_ID\" AND F.\"NAME\" = S.\"NAME\") " +
+                "WHEN MATCHED THEN UPDATE SET F.\"VALUE\" = S.\"VALUE\" " +
+                "WHEN NOT MATCHED THEN INSERT (\"ENTRY_SHARED_ID\", \"NAME\", \"VALUE\") " +
+                "VALUES (S.\"ENTRY_SHARED_ID\", S.\"NAME\", S.\"VALUE\")";
+    }
+
     @Override
     String escape(String expression) {
         return expression;
@@ -1,12 +1,15 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
 
 import org.jabref.gui.JabRefExecutorService;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.model.entry.BibEntry;
 
@@ -18,6 +21,7 @@ import org.postgresql.PGConnection;
 public class PostgreSQLProcessor extends DBMSProcessor {
 
     private PostgresSQLNotificationListener listener;
+    private Connection listenerConnection;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -48,6 +52,14 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"VALUE\" TEXT)");
     }
 
+    @Override
+    protected void createChangeLogTable() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS \"CHANGELOG\" (" +
+                        "\"SEQUENCE_NUMBER\" BIGSERIAL PRIMARY KEY, " +
+                        "\"ENTRY_SHARED_ID\" INTEGER NOT NULL)");
+    }
+
     @Override
     protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
@@ -83,6 +95,12 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    String getUpsertFieldQuery() {
+        return "INSERT INTO \"FIELD\" (\"ENTRY_SHARED_ID\", \"NAME\", \"VALUE\") VALUES(?, ?, ?) " +
+                "ON CONFLICT (\"ENTRY_SHARED_ID\", \"NAME\") DO UPDATE SET \"VALUE\" = EXCLUDED.\"VALUE\"";
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
@@ -93,21 +111,28 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            // The listener waits for notifications on a connection of its own, as a waiting connection is blocked
+            listenerConnection = new DBMSConnection((DBMSConnectionProperties) connectionProperties).getConnection();
+            listenerConnection.createStatement().execute("LISTEN " + PostgresSQLNotificationListener.CHANNEL);
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise the listener is going to be deleted by GC.
-            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            PGConnection pgConnection = listenerConnection.unwrap(PGConnection.class);
             listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
             JabRefExecutorService.INSTANCE.execute(listener);
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+        } catch (SQLException | InvalidDBMSConnectionPropertiesException e) {
+            LOGGER.error("Could not listen for changes of other clients, live updates are not available", e);
         }
     }
 
     @Override
     public void stopNotificationListener() {
         try {
-            listener.stop();
+            if (listener != null) {
+                listener.stop();
+            }
+            if (listenerConnection != null) {
+                listenerConnection.close();
+            }
             connection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -116,8 +141,21 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        notifyClients(PROCESSOR_ID);
+    }
+
+    @Override
+    public void notifyClients(Map<Integer, Integer> changedIDVersions) {
+        for (String payload : PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedIDVersions)) {
+            notifyClients(payload);
+        }
+    }
+
+    private void notifyClients(String payload) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, PostgresSQLNotificationListener.CHANNEL);
+            statement.setString(2, payload);
+            statement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
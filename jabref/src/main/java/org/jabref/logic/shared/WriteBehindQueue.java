@@ -0,0 +1,389 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.metadata.MetaData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the local changes to be written to a shared database and writes them in the background, so that the thread
+ * editing the library does not wait for the database server.
+ * <p>
+ * The changes are coalesced per entry: an entry is written at most once per flush, and an update writes only the fields
+ * changed since the last flush. An entry inserted and removed again before it is written is not written at all. Thus,
+ * the queue holds at most one pending write per entry of the library.
+ * <p>
+ * A flush starts shortly after the first pending change, so that changes made in quick succession are written together,
+ * or at once when {@link #FLUSH_THRESHOLD} entries are pending. All flushes run one after another on a single thread,
+ * which also runs the pulls of the shared changes, see {@link #runOnWriterThread(Runnable)}.
+ */
+public class WriteBehindQueue {
+
+    /**
+     * The number of pending entries starting a flush without delay.
+     */
+    public static final int FLUSH_THRESHOLD = 500;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    private static final long FLUSH_DELAY_MILLIS = 200;
+
+    private final Consumer<Changes> writer;
+    private final long flushDelayMillis;
+    private final ScheduledExecutorService executor;
+    private volatile Thread writerThread;
+
+    // pending writes by the id of their entry, in the order the entries were changed first
+    private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private Optional<MetaData> changedMetaData = Optional.empty();
+    private boolean flushScheduled;
+
+    private final AtomicLong enqueuedChanges = new AtomicLong();
+    private final AtomicLong coalescedChanges = new AtomicLong();
+    private final AtomicLong writtenEntries = new AtomicLong();
+    private final AtomicLong refusedUpdates = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private volatile int maxPendingWrites;
+    private volatile Duration lastFlushDuration = Duration.ZERO;
+
+    /**
+     * @param writer writes the taken changes to the shared database. It is called on the writer thread only.
+     */
+    public WriteBehindQueue(Consumer<Changes> writer) {
+        this(writer, FLUSH_DELAY_MILLIS);
+    }
+
+    WriteBehindQueue(Consumer<Changes> writer, long flushDelayMillis) {
+        this.writer = writer;
+        this.flushDelayMillis = flushDelayMillis;
+        ScheduledThreadPoolExecutor writerExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Shared database writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+        // the changes are flushed on shutdown, the scheduled flushes would not find any
+        writerExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = writerExecutor;
+    }
+
+    enum WriteType {
+        INSERT,
+        UPDATE,
+        REMOVE
+    }
+
+    /**
+     * The write of one entry. An update either writes the given fields or all fields of the entry.
+     */
+    static class PendingWrite {
+
+        private final BibEntry entry;
+        private WriteType type;
+        private final Set<Field> fields = new HashSet<>();
+        private boolean allFields;
+
+        PendingWrite(BibEntry entry, WriteType type, Optional<Field> field) {
+            this.entry = entry;
+            this.type = type;
+            addField(field);
+        }
+
+        /**
+         * Merges a later change of the entry into this write.
+         *
+         * @return <code>false</code> if the entry does not need to be written anymore
+         */
+        boolean coalesce(WriteType laterType, Optional<Field> field) {
+            if (type == WriteType.INSERT) {
+                // the insert writes all fields, thus only a removal matters
+                return laterType != WriteType.REMOVE;
+            }
+            if (type == WriteType.UPDATE) {
+                if (laterType == WriteType.REMOVE) {
+                    type = WriteType.REMOVE;
+                    fields.clear();
+                    allFields = false;
+                } else {
+                    addField(field);
+                }
+                return true;
+            }
+            if (laterType == WriteType.INSERT) {
+                // re-inserted, e.g., by undo, before the removal was written: the shared entry still exists
+                type = WriteType.UPDATE;
+                allFields = true;
+            }
+            return true;
+        }
+
+        private void addField(Optional<Field> field) {
+            if (field.isPresent()) {
+                fields.add(field.get());
+            } else {
+                allFields = true;
+            }
+        }
+
+        BibEntry getEntry() {
+            return entry;
+        }
+
+        WriteType getType() {
+            return type;
+        }
+
+        /**
+         * @return the fields to be updated, or an empty Optional if all fields have to be written
+         */
+        Optional<Set<Field>> getFields() {
+            return allFields ? Optional.empty() : Optional.of(Collections.unmodifiableSet(fields));
+        }
+    }
+
+    /**
+     * The changes taken from the queue by one flush.
+     */
+    static class Changes {
+
+        private final List<PendingWrite> writes;
+        private final Optional<MetaData> changedMetaData;
+
+        Changes(List<PendingWrite> writes, Optional<MetaData> changedMetaData) {
+            this.writes = writes;
+            this.changedMetaData = changedMetaData;
+        }
+
+        List<PendingWrite> getWrites() {
+            return writes;
+        }
+
+        List<BibEntry> getEntries(WriteType type) {
+            List<BibEntry> entries = new ArrayList<>();
+            for (PendingWrite write : writes) {
+                if (write.getType() == type) {
+                    entries.add(write.getEntry());
+                }
+            }
+            return entries;
+        }
+
+        Optional<MetaData> getChangedMetaData() {
+            return changedMetaData;
+        }
+
+        boolean isEmpty() {
+            return writes.isEmpty() && changedMetaData.isEmpty();
+        }
+    }
+
+    void enqueueInsert(BibEntry entry) {
+        enqueue(entry, WriteType.INSERT, Optional.empty());
+    }
+
+    void enqueueUpdate(BibEntry entry, Field field) {
+        enqueue(entry, WriteType.UPDATE, Optional.of(field));
+    }
+
+    void enqueueRemoval(BibEntry entry) {
+        enqueue(entry, WriteType.REMOVE, Optional.empty());
+    }
+
+    synchronized void enqueueMetaDataChange(MetaData metaData) {
+        enqueuedChanges.incrementAndGet();
+        changedMetaData = Optional.of(metaData);
+        scheduleFlush(false);
+    }
+
+    private synchronized void enqueue(BibEntry entry, WriteType type, Optional<Field> field) {
+        enqueuedChanges.incrementAndGet();
+        PendingWrite pendingWrite = pendingWrites.get(entry.getId());
+        if (pendingWrite == null) {
+            pendingWrites.put(entry.getId(), new PendingWrite(entry, type, field));
+        } else {
+            coalescedChanges.incrementAndGet();
+            if (!pendingWrite.coalesce(type, field)) {
+                pendingWrites.remove(entry.getId());
+            }
+        }
+        maxPendingWrites = Math.max(maxPendingWrites, pendingWrites.size());
+        scheduleFlush(pendingWrites.size() == FLUSH_THRESHOLD);
+    }
+
+    private void scheduleFlush(boolean immediately) {
+        if (executor.isShutdown()) {
+            LOGGER.debug("Shared database is closed, changes are not written anymore");
+            return;
+        }
+        if (immediately) {
+            executor.execute(this::writePendingChanges);
+        } else if (!flushScheduled) {
+            executor.schedule(this::writePendingChanges, flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        flushScheduled = true;
+    }
+
+    private synchronized Changes takeAll() {
+        Changes changes = new Changes(new ArrayList<>(pendingWrites.values()), changedMetaData);
+        pendingWrites.clear();
+        changedMetaData = Optional.empty();
+        flushScheduled = false;
+        return changes;
+    }
+
+    private void writePendingChanges() {
+        Changes changes = takeAll();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            writer.accept(changes);
+            writtenEntries.addAndGet(changes.getWrites().size());
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not write changes to the shared database", e);
+            failedFlushes.incrementAndGet();
+        }
+        lastFlushDuration = Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Writes all pending changes and waits until they are written.
+     */
+    public void flush() {
+        runOnWriterThread(this::writePendingChanges);
+    }
+
+    /**
+     * Runs the given task on the writer thread and waits until it is finished. The tasks and the flushes run one after
+     * another, thus a task neither overlaps with writing the changes nor with another task. If called on the writer
+     * thread, the task is run directly.
+     */
+    public void runOnWriterThread(Runnable task) {
+        if (isWriterThread()) {
+            task.run();
+            return;
+        }
+        if (executor.isShutdown()) {
+            LOGGER.debug("Shared database is closed, task is not run anymore");
+            return;
+        }
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not synchronize with the shared database", e.getCause());
+        }
+    }
+
+    /**
+     * Runs the given task on the writer thread without waiting for it, e.g., to pull changes announced to a listener
+     * thread. The task runs after the tasks and flushes submitted before, see {@link #runOnWriterThread(Runnable)}.
+     */
+    public void submitToWriterThread(Runnable task) {
+        if (executor.isShutdown()) {
+            LOGGER.debug("Shared database is closed, task is not run anymore");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not synchronize with the shared database", e);
+            }
+        });
+    }
+
+    /**
+     * Writes all pending changes and stops the writer thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Checks whether the current thread is the writer thread. Local changes made on the writer thread, e.g., by save
+     * actions, are written by the writer directly and thus must not be enqueued.
+     */
+    boolean isWriterThread() {
+        return Thread.currentThread() == writerThread;
+    }
+
+    void recordRefusedUpdate() {
+        refusedUpdates.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of entries waiting to be written.
+     */
+    public synchronized int getPendingWrites() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * Returns the highest number of entries waiting to be written at the same time.
+     */
+    public int getMaxPendingWrites() {
+        return maxPendingWrites;
+    }
+
+    /**
+     * Returns the number of local changes enqueued.
+     */
+    public long getEnqueuedChanges() {
+        return enqueuedChanges.get();
+    }
+
+    /**
+     * Returns the number of local changes merged into a write pending already.
+     */
+    public long getCoalescedChanges() {
+        return coalescedChanges.get();
+    }
+
+    /**
+     * Returns the number of entry writes passed to the shared database.
+     */
+    public long getWrittenEntries() {
+        return writtenEntries.get();
+    }
+
+    /**
+     * Returns the number of updates refused because the shared entry is newer.
+     */
+    public long getRefusedUpdates() {
+        return refusedUpdates.get();
+    }
+
+    /**
+     * Returns the number of flushes which failed.
+     */
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    public Duration getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+}
@@ -18,6 +18,7 @@ public class OracleNotificationListener implements DatabaseChangeListener {
 
     @Override
     public void onDatabaseChangeNotification(DatabaseChangeEvent event) {
-        dbmsSynchronizer.pullChanges();
+        // the changes are pulled on the writer thread of the synchronizer, not on the notification thread
+        dbmsSynchronizer.pullChangesInBackground();
     }
 }
@@ -1,6 +1,11 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,11 +17,28 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The payload of a notification starts with the id of the notifying processor. It is followed by the changed entries
+ * as <code>;sharedID:version,sharedID:version,...</code>, where version 0 denotes a removed entry. A notification
+ * without entries requests a full pull, e.g., after a change of the metadata.
+ * <p>
+ * The listener needs a connection of its own, because the connection is blocked while waiting for notifications.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
+    public static final String CHANNEL = "jabrefLiveUpdate";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // PostgreSQL limits the payload to 8000 bytes, the payload consists of ASCII characters only
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    private static final String ENTRIES_SEPARATOR = ";";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String VERSION_SEPARATOR = ":";
+
+    // the time to wait for notifications before checking whether the listener is stopped
+    private static final int NOTIFICATION_TIMEOUT_MILLIS = 1000;
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
@@ -30,27 +52,100 @@ public class PostgresSQLNotificationListener implements Runnable {
     public void run() {
         stop = false;
         try {
-            // noinspection InfiniteLoopStatement
             while (!stop) {
-                PGNotification notifications[] = pgConnection.getNotifications();
-
-                if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                // Blocks until notifications arrive or the timeout elapses
+                PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MILLIS);
+                if ((notifications != null) && (notifications.length > 0)) {
+                    handleNotifications(notifications);
                 }
+            }
+        } catch (SQLException exception) {
+            if (!stop) {
+                LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+            }
+        }
+    }
 
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+    private void handleNotifications(PGNotification[] notifications) {
+        Map<Integer, Integer> changedIDVersions = new HashMap<>();
+        boolean pullAll = false;
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            if (payload.startsWith(DBMSProcessor.PROCESSOR_ID)) {
+                // sent by this client
+                continue;
+            }
+            Optional<Map<Integer, Integer>> idVersions = parsePayload(payload);
+            if (idVersions.isPresent()) {
+                idVersions.get().forEach((sharedID, version) -> changedIDVersions.merge(sharedID, version, Math::max));
+            } else {
+                pullAll = true;
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+        }
+
+        // the changes are pulled on the writer thread of the synchronizer, not on this listener thread
+        if (pullAll) {
+            dbmsSynchronizer.pullChangesInBackground();
+        } else if (!changedIDVersions.isEmpty()) {
+            dbmsSynchronizer.pullChangedEntries(changedIDVersions);
         }
     }
 
     public void stop() {
         stop = true;
     }
+
+    /**
+     * Creates the payloads announcing the given changed entries. The entries are split into several payloads if they
+     * exceed the size limit of a notification.
+     *
+     * @param processorID       the id of the notifying processor
+     * @param changedIDVersions the versions of the changed entries by their shared id, 0 for removed entries
+     */
+    public static List<String> createPayloads(String processorID, Map<Integer, Integer> changedIDVersions) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(processorID);
+        boolean firstEntry = true;
+        for (Map.Entry<Integer, Integer> idVersion : changedIDVersions.entrySet()) {
+            String entry = idVersion.getKey() + VERSION_SEPARATOR + idVersion.getValue();
+            if (payload.length() + entry.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(processorID);
+                firstEntry = true;
+            }
+            payload.append(firstEntry ? ENTRIES_SEPARATOR : ENTRY_SEPARATOR).append(entry);
+            firstEntry = false;
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    /**
+     * Parses the changed entries of the given payload.
+     *
+     * @return the versions of the changed entries by their shared id, or an empty Optional if the payload does not
+     * announce single entries or cannot be parsed
+     */
+    public static Optional<Map<Integer, Integer>> parsePayload(String payload) {
+        int entriesStart = payload.indexOf(ENTRIES_SEPARATOR);
+        if ((entriesStart < 0) || (entriesStart == payload.length() - 1)) {
+            return Optional.empty();
+        }
+
+        Map<Integer, Integer> changedIDVersions = new HashMap<>();
+        try {
+            for (String entry : payload.substring(entriesStart + 1).split(ENTRY_SEPARATOR)) {
+                String[] idVersion = entry.split(VERSION_SEPARATOR);
+                if (idVersion.length != 2) {
+                    LOGGER.warn("Invalid notification payload {}", payload);
+                    return Optional.empty();
+                }
+                changedIDVersions.put(Integer.parseInt(idVersion[0]), Integer.parseInt(idVersion[1]));
+            }
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid notification payload {}", payload, e);
+            return Optional.empty();
+        }
+        return Optional.of(changedIDVersions);
+    }
 }
@@ -12,7 +12,8 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Filters change events and only relays major changes.
+ * Filters change events and only relays major changes. The changes of a batch edit arrive as one {@link
+ * org.jabref.model.database.event.EntriesChangedEvent}, which is always relayed.
  */
 public class CoarseChangeFilter {
 
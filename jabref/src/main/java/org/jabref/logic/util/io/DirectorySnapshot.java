@@ -0,0 +1,287 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import net.harawata.appdirs.AppDirsFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of all files with one of the given extensions in the given directories and their subdirectories.
+ * <p>
+ * The files are indexed by their name, so that the files whose name starts with a citation key are looked up without
+ * walking the directories again. Thus, a single snapshot serves to find the files of all entries of a library.
+ * <p>
+ * A snapshot can be stored and loaded again as long as none of its directories has been modified since, see
+ * {@link #isUpToDate()}.
+ */
+public class DirectorySnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectorySnapshot.class);
+
+    private static final int FORMAT_VERSION = 1;
+    // the modification time of a directory which does not exist
+    private static final long MISSING = -1;
+
+    private final List<Path> directories;
+    private final List<String> extensions;
+
+    // the files by their name, sorted to look up the names starting with a given prefix
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+    // the last modification time of each directory walked and of each missing directory, in milliseconds
+    private final Map<Path, Long> modificationTimes;
+
+    private DirectorySnapshot(List<Path> directories, List<String> extensions, Map<Path, Long> modificationTimes, List<Path> files) {
+        this.directories = List.copyOf(directories);
+        this.extensions = List.copyOf(extensions);
+        this.modificationTimes = modificationTimes;
+        for (Path file : files) {
+            filesByName.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>(1)).add(file);
+        }
+    }
+
+    /**
+     * Walks the given directories and takes a snapshot of the files having one of the given extensions. The
+     * subdirectories of one level are walked in parallel. Directories which do not exist are skipped.
+     */
+    public static DirectorySnapshot create(List<Path> directories, List<String> extensions) throws IOException {
+        Objects.requireNonNull(directories);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
+
+        Map<Path, Long> modificationTimes = new ConcurrentHashMap<>();
+        List<Path> files = Collections.synchronizedList(new ArrayList<>());
+        // the real paths of the directories walked already, to walk directories reachable via links only once
+        Set<Path> visitedDirectories = ConcurrentHashMap.newKeySet();
+
+        List<Path> level = new ArrayList<>();
+        for (Path directory : directories) {
+            if (Files.exists(directory)) {
+                level.add(directory);
+            } else {
+                modificationTimes.put(directory, MISSING);
+            }
+        }
+        try {
+            while (!level.isEmpty()) {
+                level = level.parallelStream()
+                             .filter(directory -> visit(directory, visitedDirectories))
+                             .flatMap(directory -> list(directory, extensions, modificationTimes, files).stream())
+                             .collect(Collectors.toList());
+            }
+        } catch (UncheckedIOException e) {
+            throw new IOException("Problem in finding files", e);
+        }
+        return new DirectorySnapshot(directories, extensions, modificationTimes, files);
+    }
+
+    private static boolean visit(Path directory, Set<Path> visitedDirectories) {
+        try {
+            return visitedDirectories.add(directory.toRealPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds the files of the directory having one of the extensions to the files.
+     *
+     * @return the subdirectories of the directory
+     */
+    private static List<Path> list(Path directory, List<String> extensions, Map<Path, Long> modificationTimes, List<Path> files) {
+        List<Path> subdirectories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            modificationTimes.put(directory, Files.getLastModifiedTime(directory).toMillis());
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    subdirectories.add(path);
+                } else if (extensions.contains(FileUtil.getFileExtension(path.getFileName().toString()).orElse(""))) {
+                    files.add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return subdirectories;
+    }
+
+    public List<Path> getDirectories() {
+        return directories;
+    }
+
+    public List<String> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * Checks whether this snapshot contains the files with the given extensions in the given directories.
+     */
+    public boolean covers(List<Path> directories, List<String> extensions) {
+        return this.directories.equals(directories) && this.extensions.equals(extensions);
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix.
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        List<Path> result = new ArrayList<>();
+        for (Map.Entry<String, List<Path>> files : filesByName.tailMap(prefix, true).entrySet()) {
+            if (!files.getKey().startsWith(prefix)) {
+                break;
+            }
+            result.addAll(files.getValue());
+        }
+        return result;
+    }
+
+    public int getNumberOfFiles() {
+        return filesByName.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Checks whether the files of this snapshot are still present. This is the case if no directory has been modified
+     * since the snapshot was taken, i.e., if no file has been added, removed, or renamed. Only the directories are
+     * checked, not the files.
+     */
+    public boolean isUpToDate() {
+        try {
+            for (Map.Entry<Path, Long> modificationTime : modificationTimes.entrySet()) {
+                Path directory = modificationTime.getKey();
+                if (modificationTime.getValue() == MISSING) {
+                    if (Files.exists(directory)) {
+                        return false;
+                    }
+                } else if (Files.getLastModifiedTime(directory).toMillis() != modificationTime.getValue()) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            // the directory does not exist anymore
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stores this snapshot in the given file.
+     */
+    public void store(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(FORMAT_VERSION);
+            writePaths(output, directories);
+            output.writeInt(extensions.size());
+            for (String extension : extensions) {
+                output.writeUTF(extension);
+            }
+            output.writeInt(modificationTimes.size());
+            for (Map.Entry<Path, Long> modificationTime : modificationTimes.entrySet()) {
+                output.writeUTF(modificationTime.getKey().toString());
+                output.writeLong(modificationTime.getValue());
+            }
+            writePaths(output, filesByName.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writePaths(DataOutputStream output, List<Path> paths) throws IOException {
+        output.writeInt(paths.size());
+        for (Path path : paths) {
+            output.writeUTF(path.toString());
+        }
+    }
+
+    /**
+     * Loads the snapshot stored in the given file.
+     *
+     * @return the snapshot, or an empty Optional if the file does not contain a snapshot of the given directories and
+     * extensions, or if the snapshot is outdated
+     */
+    public static Optional<DirectorySnapshot> load(Path file, List<Path> directories, List<String> extensions) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            List<Path> storedDirectories = readPaths(input);
+            int numberOfExtensions = input.readInt();
+            List<String> storedExtensions = new ArrayList<>(numberOfExtensions);
+            for (int i = 0; i < numberOfExtensions; i++) {
+                storedExtensions.add(input.readUTF());
+            }
+            if (!storedDirectories.equals(directories) || !storedExtensions.equals(extensions)) {
+                return Optional.empty();
+            }
+
+            int numberOfDirectories = input.readInt();
+            Map<Path, Long> modificationTimes = new HashMap<>();
+            for (int i = 0; i < numberOfDirectories; i++) {
+                modificationTimes.put(Path.of(input.readUTF()), input.readLong());
+            }
+            DirectorySnapshot snapshot = new DirectorySnapshot(directories, extensions, modificationTimes, readPaths(input));
+            return snapshot.isUpToDate() ? Optional.of(snapshot) : Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("Could not load directory snapshot from {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static List<Path> readPaths(DataInputStream input) throws IOException {
+        int numberOfPaths = input.readInt();
+        List<Path> paths = new ArrayList<>(numberOfPaths);
+        for (int i = 0; i < numberOfPaths; i++) {
+            paths.add(Path.of(input.readUTF()));
+        }
+        return paths;
+    }
+
+    /**
+     * Loads the snapshot of the given directories from the given cache directory if it is up to date. Otherwise, takes
+     * a new snapshot and stores it in the cache directory.
+     */
+    public static DirectorySnapshot loadOrCreate(Path cacheDirectory, List<Path> directories, List<String> extensions) throws IOException {
+        Path cacheFile = cacheDirectory.resolve(Integer.toHexString(Objects.hash(directories, extensions)) + ".snapshot");
+        Optional<DirectorySnapshot> storedSnapshot = load(cacheFile, directories, extensions);
+        if (storedSnapshot.isPresent()) {
+            return storedSnapshot.get();
+        }
+
+        DirectorySnapshot snapshot = create(directories, extensions);
+        try {
+            snapshot.store(cacheFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store directory snapshot to {}", cacheFile, e);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the directory to cache the snapshots in.
+     */
+    public static Path getDefaultCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance().getUserCacheDir("JabRef", null, "org.jabref")).resolve("directory-snapshots");
+    }
+}
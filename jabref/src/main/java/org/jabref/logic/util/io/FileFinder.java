@@ -16,4 +16,17 @@ public interface FileFinder {
      * @param extensions  The extensions that are acceptable.
      */
     List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+
+    /**
+     * Finds all files of the given snapshot that are probably associated with the given entry. Use this method to
+     * find the files of many entries without walking the directories for each entry.
+     * <p>
+     * By default, the directories of the snapshot are walked again.
+     *
+     * @param entry    The entry to search files for.
+     * @param snapshot The files in the root directories having one of the acceptable extensions.
+     */
+    default List<Path> findAssociatedFiles(BibEntry entry, DirectorySnapshot snapshot) throws IOException {
+        return findAssociatedFiles(entry, snapshot.getDirectories(), snapshot.getExtensions());
+    }
 }
@@ -0,0 +1,91 @@
+package org.jabref.logic.util.strings;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replaces texts by other texts in a single pass over a string, instead of calling {@link String#replace} once for
+ * every replacement.
+ * <p>
+ * The texts to replace are compiled into a trie, which is indexed by the first character of the texts. At each
+ * position, the longest text starting there is replaced, and the string is searched again after it. Thus, a
+ * replacement is never replaced again. The result equals the one of consecutive calls to {@link String#replace} if
+ * the texts to replace neither overlap with each other nor occur in the replacements, as in the conversion maps of
+ * {@link HTMLUnicodeConversionMaps}.
+ * <p>
+ * A table is immutable and may be used concurrently.
+ */
+public class ReplacementTable {
+
+    // the first characters of the texts to replace, to skip all other characters quickly
+    private final BitSet firstCharacters = new BitSet();
+    private final Node root = new Node();
+
+    public ReplacementTable(Map<String, String> replacements) {
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            String text = replacement.getKey();
+            if (text.isEmpty()) {
+                continue;
+            }
+            firstCharacters.set(text.charAt(0));
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), character -> new Node());
+            }
+            node.replacement = Objects.requireNonNull(replacement.getValue());
+        }
+    }
+
+    /**
+     * Replaces all texts of this table in the given string.
+     *
+     * @return the string with the texts replaced, or the string itself if it does not contain any of the texts
+     */
+    public String replace(String text) {
+        Objects.requireNonNull(text);
+        StringBuilder result = null;
+        int copiedUpTo = 0;
+        int position = 0;
+        while (position < text.length()) {
+            if (!firstCharacters.get(text.charAt(position))) {
+                position++;
+                continue;
+            }
+
+            // find the longest text to replace starting at the position
+            Node node = root;
+            String replacement = null;
+            int end = position;
+            for (int i = position; (i < text.length()) && (node != null); i++) {
+                node = node.children.get(text.charAt(i));
+                if ((node != null) && (node.replacement != null)) {
+                    replacement = node.replacement;
+                    end = i + 1;
+                }
+            }
+
+            if (replacement == null) {
+                position++;
+            } else {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copiedUpTo, position).append(replacement);
+                copiedUpTo = end;
+                position = end;
+            }
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copiedUpTo, text.length()).toString();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String replacement;
+    }
+}
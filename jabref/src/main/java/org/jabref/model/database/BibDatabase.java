@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +24,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -31,6 +34,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -53,8 +57,19 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    // Entries having a citation key, by their key. Kept up to date on insertion, removal and key changes of entries.
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+
+    // Entries by their id. Kept up to date on insertion, removal and id changes of entries.
+    private final Map<String, BibEntry> entriesById = new HashMap<>();
+
     private final EventBus eventBus = new EventBus();
 
+    // Field changes collected during a batch edit instead of being posted, null if no batch edit is open
+    private List<FieldChangedEvent> batchedFieldChanges;
+    private EntriesEventSource batchEventSource;
+    private int openBatchEdits;
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -121,8 +136,15 @@ public class BibDatabase {
     /**
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
-    public boolean containsEntryWithId(String id) {
-        return entries.stream().anyMatch(entry -> entry.getId().equals(id));
+    public synchronized boolean containsEntryWithId(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    /**
+     * Returns the entry with the given ID (-> entry_type + hashcode).
+     */
+    public synchronized Optional<BibEntry> getEntryById(String id) {
+        return Optional.ofNullable(entriesById.get(id));
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -148,12 +170,14 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCitationKey().orElse(null))) {
-                return Optional.of(entry);
-            }
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return Optional.empty();
+        }
+        if (entriesWithKey.size() == 1) {
+            return Optional.of(entriesWithKey.get(0));
         }
-        return Optional.empty();
+        return Optional.of(inDatabaseOrder(entriesWithKey).get(0));
     }
 
     /**
@@ -163,18 +187,53 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return new ArrayList<>();
+        }
+        if (entriesWithKey.size() == 1) {
+            return new ArrayList<>(entriesWithKey);
+        }
+        return inDatabaseOrder(entriesWithKey);
+    }
 
+    /**
+     * Sorts entries sharing a citation key by their position in the database. As this requires a pass over all
+     * entries, it is only done for duplicate keys.
+     */
+    private List<BibEntry> inDatabaseOrder(List<BibEntry> entriesWithKey) {
+        Set<BibEntry> wanted = Collections.newSetFromMap(new IdentityHashMap<>());
+        wanted.addAll(entriesWithKey);
+        List<BibEntry> result = new ArrayList<>(entriesWithKey.size());
         for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+            if (wanted.contains(entry)) {
+                result.add(entry);
+            }
         }
         return result;
     }
 
+    private synchronized void addToCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private synchronized void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return;
+        }
+        // entries with equal content are different entries, thus compare by identity
+        for (int i = 0; i < entriesWithKey.size(); i++) {
+            if (entriesWithKey.get(i) == entry) {
+                entriesWithKey.remove(i);
+                break;
+            }
+        }
+        if (entriesWithKey.isEmpty()) {
+            entriesByCitationKey.remove(key);
+        }
+    }
+
     /**
      * Inserts the entry.
      *
@@ -206,6 +265,8 @@ public class BibDatabase {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
             entry.registerListener(this);
+            entriesById.put(entry.getId(), entry);
+            entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -243,16 +304,82 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        // entries with equal content are different entries, thus compare by identity
+        Set<BibEntry> removedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BibEntry entry : entries) {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+            }
+        }
+        boolean anyRemoved = !removedEntries.isEmpty();
+        if (anyRemoved) {
+            // removing all at once results in a single change of the list
+            entries.removeAll(removedEntries);
+        }
+        for (BibEntry entry : removedEntries) {
+            // key changes of removed entries must not reach the citation key index
+            entry.unregisterListener(this);
+            entriesById.remove(entry.getId(), entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
+        }
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
 
+    /**
+     * Starts a batch edit, see {@link #startBatchEdit(EntriesEventSource)}.
+     */
+    public BatchEdit startBatchEdit() {
+        return startBatchEdit(EntriesEventSource.LOCAL);
+    }
+
+    /**
+     * Starts a batch edit. Until it is closed, changes of the fields of the entries are not posted as single {@link
+     * FieldChangedEvent}s, but collected and posted as one {@link EntriesChangedEvent} when the batch edit is closed.
+     * Use it when changing many entries at once, e.g., in a try-with-resources statement:
+     * <pre>
+     * try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+     *     ...
+     * }
+     * </pre>
+     * Batch edits can be nested; the changes are posted when the outermost one is closed. All field changes of the
+     * database are collected while a batch edit is open, regardless of the thread making them.
+     *
+     * @param eventSource source the {@link EntriesChangedEvent} is sent from
+     */
+    public synchronized BatchEdit startBatchEdit(EntriesEventSource eventSource) {
+        Objects.requireNonNull(eventSource);
+        if (openBatchEdits == 0) {
+            batchedFieldChanges = new ArrayList<>();
+            batchEventSource = eventSource;
+        }
+        openBatchEdits++;
+        return new BatchEdit();
+    }
+
+    private void endBatchEdit() {
+        List<FieldChangedEvent> fieldChanges;
+        EntriesEventSource eventSource;
+        synchronized (this) {
+            openBatchEdits--;
+            if (openBatchEdits > 0) {
+                return;
+            }
+            fieldChanges = batchedFieldChanges;
+            eventSource = batchEventSource;
+            batchedFieldChanges = null;
+            batchEventSource = null;
+        }
+        if (!fieldChanges.isEmpty()) {
+            eventBus.post(new EntriesChangedEvent(fieldChanges, eventSource));
+        }
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -557,6 +684,7 @@ public class BibDatabase {
      *
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link EntriesChangedEvent}
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -581,6 +709,31 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            synchronized (this) {
+                if (event.getOldValue() != null) {
+                    entriesById.remove(event.getOldValue(), event.getBibEntry());
+                }
+                entriesById.put(event.getNewValue(), event.getBibEntry());
+            }
+        }
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            // update the index before the listeners, which may already look up the new key
+            synchronized (this) {
+                if (event.getOldValue() != null) {
+                    removeFromCitationKeyIndex(event.getOldValue(), event.getBibEntry());
+                }
+                if (event.getNewValue() != null) {
+                    addToCitationKeyIndex(event.getNewValue(), event.getBibEntry());
+                }
+            }
+        }
+        synchronized (this) {
+            if (batchedFieldChanges != null) {
+                batchedFieldChanges.add(event);
+                return;
+            }
+        }
         eventBus.post(event);
     }
 
@@ -617,11 +770,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /**
@@ -646,4 +797,26 @@ public class BibDatabase {
         return newLineSeparator;
     }
 
+    /**
+     * A batch edit of the database, see {@link #startBatchEdit(EntriesEventSource)}. Closing it more than once has no
+     * effect.
+     */
+    public final class BatchEdit implements AutoCloseable {
+
+        private boolean closed;
+
+        private BatchEdit() {
+        }
+
+        @Override
+        public void close() {
+            synchronized (BibDatabase.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            endBatchEdit();
+        }
+    }
 }
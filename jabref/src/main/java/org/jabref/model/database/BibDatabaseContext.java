@@ -14,6 +14,7 @@ import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.shared.DatabaseSynchronizer;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
@@ -213,6 +214,17 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * Starts a batch edit of the entries of the database, see {@link BibDatabase#startBatchEdit(EntriesEventSource)}.
+     */
+    public BibDatabase.BatchEdit startBatchEdit() {
+        return database.startBatchEdit();
+    }
+
+    public BibDatabase.BatchEdit startBatchEdit(EntriesEventSource eventSource) {
+        return database.startBatchEdit(eventSource);
+    }
+
     /**
      * check if the database has any empty entries
      * @return true if the database has any empty entries; otherwise false
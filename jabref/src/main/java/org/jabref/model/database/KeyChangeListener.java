@@ -2,9 +2,14 @@ package org.jabref.model.database;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -28,48 +33,95 @@ public class KeyChangeListener {
         if (event.getField().equals(InternalField.KEY_FIELD)) {
             String newKey = event.getNewValue();
             String oldKey = event.getOldValue();
-            updateEntryLinks(newKey, oldKey);
+            Map<String, String> keyChanges = new HashMap<>();
+            addKeyChange(keyChanges, oldKey, newKey);
+            updateEntryLinks(keyChanges);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (!event.getFields().contains(InternalField.KEY_FIELD)) {
+            return;
+        }
+        Map<String, String> keyChanges = new HashMap<>();
+        for (FieldChangedEvent change : event.getFieldChanges()) {
+            if (change.getField().equals(InternalField.KEY_FIELD)) {
+                addKeyChange(keyChanges, change.getOldValue(), change.getNewValue());
+            }
+        }
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            updateEntryLinks(keyChanges);
         }
     }
 
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
+        Map<String, String> keyChanges = new HashMap<>();
         for (BibEntry entry : entries) {
             Optional<String> citeKey = entry.getCitationKey();
-            citeKey.ifPresent(oldkey -> updateEntryLinks(null, oldkey));
+            citeKey.ifPresent(oldkey -> addKeyChange(keyChanges, oldkey, null));
         }
+        updateEntryLinks(keyChanges);
     }
 
-    private void updateEntryLinks(String newKey, String oldKey) {
+    /**
+     * Adds the change of a key to the given changes, which map old keys to new keys (null if the key was removed). A
+     * key changed several times is mapped to its last value.
+     */
+    private static void addKeyChange(Map<String, String> keyChanges, String oldKey, String newKey) {
+        if (oldKey == null) {
+            return;
+        }
+        for (Map.Entry<String, String> keyChange : keyChanges.entrySet()) {
+            if (oldKey.equals(keyChange.getValue())) {
+                keyChange.setValue(newKey);
+            }
+        }
+        keyChanges.putIfAbsent(oldKey, newKey);
+    }
+
+    private void updateEntryLinks(Map<String, String> keyChanges) {
+        if (keyChanges.isEmpty()) {
+            return;
+        }
         for (BibEntry entry : database.getEntries()) {
             for (Field field : FieldFactory.getKeyFields()) {
                 entry.getField(field).ifPresent(fieldContent -> {
                     if (field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                        replaceSingleKeyInField(newKey, oldKey, entry, field, fieldContent);
+                        replaceSingleKeyInField(keyChanges, entry, field, fieldContent);
                     } else { // MULTIPLE_ENTRY_LINK
-                        replaceKeyInMultiplesKeyField(newKey, oldKey, entry, field, fieldContent);
+                        replaceKeyInMultiplesKeyField(keyChanges, entry, field, fieldContent);
                     }
                 });
             }
         }
     }
 
-    private void replaceKeyInMultiplesKeyField(String newKey, String oldKey, BibEntry entry, Field field, String fieldContent) {
+    private void replaceKeyInMultiplesKeyField(Map<String, String> keyChanges, BibEntry entry, Field field, String fieldContent) {
         List<String> keys = new ArrayList<>(Arrays.asList(fieldContent.split(",")));
-        int index = keys.indexOf(oldKey);
-        if (index != -1) {
-            if (newKey == null) {
-                keys.remove(index);
+        List<String> newKeys = new ArrayList<>(keys.size());
+        // only the first occurrence of a changed key is replaced
+        Set<String> replacedKeys = new HashSet<>();
+        for (String key : keys) {
+            if (keyChanges.containsKey(key) && replacedKeys.add(key)) {
+                String newKey = keyChanges.get(key);
+                if (newKey != null) {
+                    newKeys.add(newKey);
+                }
             } else {
-                keys.set(index, newKey);
+                newKeys.add(key);
             }
-            entry.setField(field, String.join(",", keys));
+        }
+        if (!replacedKeys.isEmpty()) {
+            entry.setField(field, String.join(",", newKeys));
         }
     }
 
-    private void replaceSingleKeyInField(String newKey, String oldKey, BibEntry entry, Field field, String fieldContent) {
-        if (fieldContent.equals(oldKey)) {
+    private void replaceSingleKeyInField(Map<String, String> keyChanges, BibEntry entry, Field field, String fieldContent) {
+        if (keyChanges.containsKey(fieldContent)) {
+            String newKey = keyChanges.get(fieldContent);
             if (newKey == null) {
                 entry.clearField(field);
             } else {
@@ -0,0 +1,67 @@
+package org.jabref.model.database.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * {@link EntriesChangedEvent} is fired once when a batch edit of a {@link BibDatabase} ends (see {@link
+ * BibDatabase#startBatchEdit()}). It replaces the {@link FieldChangedEvent}s of all field changes made during the batch
+ * edit.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+    private final Set<Field> fields;
+
+    /**
+     * @param fieldChanges the field changes in the order they were made
+     * @param location     Location affected by this event
+     */
+    public EntriesChangedEvent(List<FieldChangedEvent> fieldChanges, EntriesEventSource location) {
+        super(getChangedEntries(fieldChanges), location);
+        this.fieldChanges = Collections.unmodifiableList(fieldChanges);
+        this.fields = new LinkedHashSet<>();
+        for (FieldChangedEvent change : fieldChanges) {
+            fields.add(change.getField());
+        }
+    }
+
+    private static List<BibEntry> getChangedEntries(List<FieldChangedEvent> fieldChanges) {
+        Objects.requireNonNull(fieldChanges);
+        // entries with equal content are different entries, thus compare by identity
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> entries = new ArrayList<>();
+        for (FieldChangedEvent change : fieldChanges) {
+            if (seen.add(change.getBibEntry())) {
+                entries.add(change.getBibEntry());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the single field changes, in the order they were made.
+     */
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+
+    /**
+     * Returns the fields changed in at least one entry.
+     */
+    public Set<Field> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+}
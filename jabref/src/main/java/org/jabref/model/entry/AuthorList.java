@@ -2,7 +2,6 @@ package org.jabref.model.entry;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -10,6 +9,12 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE> or <CODE>editor</CODE> field in bibtex record.
  * <p>
@@ -115,7 +120,24 @@ import org.jabref.logic.importer.AuthorListParser;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    private static final int AUTHOR_CACHE_SIZE = 50_000;
+
+    /**
+     * Parsed author lists by the string they were parsed from. The cache is shared by all threads (main table, search,
+     * group counts, exporters). Field values are interned by {@link BibEntry}, so looking up the value of a field is
+     * cheap.
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                              .maximumSize(AUTHOR_CACHE_SIZE)
+                                                                              .recordStats()
+                                                                              .build();
+
+    /**
+     * The same person usually occurs in many author fields. Sharing one instance per person saves memory and computing
+     * the LaTeX-free form more than once.
+     */
+    private static final Interner<Author> AUTHOR_INTERNER = Interners.newWeakInterner();
+
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -162,7 +184,8 @@ public class AuthorList {
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * The parsed AuthorLists are cached by the string passed in. The cache is bounded and safe to use from several
+     * threads.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
@@ -170,15 +193,26 @@ public class AuthorList {
     public static AuthorList parse(final String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
         if (authorList == null) {
+            // parsing is done outside of the cache to keep exceptions unwrapped; two threads parsing the same string
+            // concurrently do not harm
             AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
+            authorList = parser.parse(authors).getAuthors().stream()
+                               .map(AUTHOR_INTERNER::intern)
+                               .collect(collect());
             AUTHOR_CACHE.put(authors, authorList);
         }
         return authorList;
     }
 
+    /**
+     * Returns the hit and miss statistics of the cache used by {@link #parse(String)}.
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
     /**
      * This is a convenience method for getAuthorsFirstFirst()
      *
@@ -0,0 +1,166 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of an entry. Keys and values are stored alternately in a single array: an entry has only a few
+ * fields, so scanning the array is about as fast as hashing, and it needs far less memory than a hash map.
+ * <p>
+ * Each change replaces the array (copy on write), so the map can be read and iterated from several threads without
+ * locking.
+ */
+final class FieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] keysAndValues = EMPTY;
+
+    FieldMap() {
+    }
+
+    FieldMap(Map<Field, String> fields) {
+        Object[] copy = new Object[fields.size() * 2];
+        int i = 0;
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            copy[i++] = Objects.requireNonNull(field.getKey());
+            copy[i++] = Objects.requireNonNull(field.getValue());
+        }
+        keysAndValues = (i == copy.length) ? copy : Arrays.copyOf(copy, i);
+    }
+
+    @Override
+    public int size() {
+        return keysAndValues.length / 2;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(keysAndValues, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        return (index < 0) ? null : (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        if (index >= 0) {
+            Object[] copy = current.clone();
+            copy[index + 1] = value;
+            keysAndValues = copy;
+            return (String) current[index + 1];
+        }
+
+        Object[] copy = Arrays.copyOf(current, current.length + 2);
+        copy[current.length] = key;
+        copy[current.length + 1] = value;
+        keysAndValues = copy;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        if (index < 0) {
+            return null;
+        }
+
+        Object[] copy = new Object[current.length - 2];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index + 2, copy, index, current.length - index - 2);
+        keysAndValues = copy;
+        return (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        keysAndValues = EMPTY;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    private static int indexOf(Object[] keysAndValues, Object key) {
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            if ((keysAndValues[i] == key) || keysAndValues[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<Field, String>> {
+
+        @Override
+        public int size() {
+            return FieldMap.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<Field, String>> iterator() {
+            Object[] snapshot = keysAndValues;
+            return new Iterator<>() {
+                private int next = 0;
+                private Field last;
+
+                @Override
+                public boolean hasNext() {
+                    return next < snapshot.length;
+                }
+
+                @Override
+                public Map.Entry<Field, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = (Field) snapshot[next];
+                    Map.Entry<Field, String> entry = new FieldEntry(last, (String) snapshot[next + 1]);
+                    next += 2;
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    FieldMap.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+    }
+
+    private class FieldEntry extends AbstractMap.SimpleEntry<Field, String> {
+
+        FieldEntry(Field key, String value) {
+            super(key, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -89,19 +89,24 @@ public class ContainBasedSearchRule implements SearchRule {
             return new PdfSearchResults(List.of());
         }
 
-        if (!query.equals(this.lastQuery)) {
-            this.lastQuery = query;
-            lastSearchResults = List.of();
-            try {
-                PdfSearcher searcher = PdfSearcher.of(databaseContext);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastSearchResults = results.getSortedByScore();
-            } catch (IOException e) {
-                LOGGER.error("Could not retrieve search results!", e);
+        List<SearchResult> searchResults;
+        // the rule may be applied to several entries in parallel, but the index should only be queried once
+        synchronized (this) {
+            if (!query.equals(this.lastQuery)) {
+                this.lastQuery = query;
+                lastSearchResults = List.of();
+                try {
+                    PdfSearcher searcher = PdfSearcher.of(databaseContext);
+                    PdfSearchResults results = searcher.search(query, 5);
+                    lastSearchResults = results.getSortedByScore();
+                } catch (IOException e) {
+                    LOGGER.error("Could not retrieve search results!", e);
+                }
             }
+            searchResults = lastSearchResults;
         }
 
-        return new PdfSearchResults(lastSearchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
+        return new PdfSearchResults(searchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
     }
 
     public EnumSet<SearchFlags> getSearchFlags() {
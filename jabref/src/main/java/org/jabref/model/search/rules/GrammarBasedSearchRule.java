@@ -4,12 +4,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
@@ -22,7 +22,10 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.NotMatcher;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -51,6 +54,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final EnumSet<SearchFlags> searchFlags;
 
     private ParseTree tree;
+    private SearchMatcher plan;
     private String query;
     private List<SearchResult> searchResults = new ArrayList<>();
 
@@ -98,6 +102,7 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        plan = new SearchPlanCompiler(searchFlags).visit(tree);
         this.query = query;
 
         if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || (databaseContext == null)) {
@@ -115,7 +120,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(searchFlags, bibEntry).visit(tree);
+            return plan.isMatch(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return getFulltextResults(query, bibEntry).numSearchResults() > 0;
@@ -135,6 +140,10 @@ public class GrammarBasedSearchRule implements SearchRule {
         } catch (ParseCancellationException e) {
             LOGGER.debug("Search query invalid", e);
             return false;
+        } catch (PatternSyntaxException e) {
+            // the comparisons compile their regular expressions while the query is initialized
+            LOGGER.debug("Regular expression of search query invalid", e);
+            return false;
         }
     }
 
@@ -156,96 +165,137 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
-    public static class Comparator {
+    /**
+     * A single <code>field operator value</code> comparison. All patterns and field name checks are resolved once at
+     * construction time, so that an instance can be shared by all entries (and threads) the query is applied to.
+     */
+    public static class Comparator implements SearchMatcher {
 
         private final ComparisonOperator operator;
+        private final boolean regularExpression;
+        private final boolean caseSensitive;
+        private final String fieldName;
+        private final String value;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
+        private final boolean searchesEntryType;
+        private final boolean searchesAnyKeyword;
+        private final boolean searchesAnyField;
+
+        // Caches the (possibly regex based) decision whether a field is addressed by this comparison
+        private final Map<Field, Boolean> matchingFields = new ConcurrentHashMap<>();
+
         public Comparator(String field, String value, ComparisonOperator operator, EnumSet<SearchFlags> searchFlags) {
             this.operator = operator;
+            this.regularExpression = searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION);
+            this.caseSensitive = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE);
+            this.fieldName = field;
+            this.value = value;
+
+            int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
+            this.fieldPattern = Pattern.compile(regularExpression ? field : "\\Q" + field + "\\E", option);
+            // literal values are matched without the regex engine, see matchFieldValue
+            this.valuePattern = regularExpression ? Pattern.compile(value, option) : null;
+
+            this.searchesEntryType = matchFieldKey(InternalField.TYPE_HEADER.getName());
+            this.searchesAnyKeyword = matchFieldKey("anykeyword");
+            this.searchesAnyField = matchFieldKey("anyfield");
+        }
 
-            int option = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE;
-            this.fieldPattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? field : "\\Q" + field + "\\E", option);
-            this.valuePattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? value : "\\Q" + value + "\\E", option);
+        @Override
+        public boolean isMatch(BibEntry entry) {
+            return compare(entry);
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (searchesEntryType) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (searchesAnyKeyword) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
+            boolean searchedAnyField = false;
+            for (Field field : entry.getFields()) {
+                // special case for searching allfields=cat and title=dog
+                if (!searchesAnyField && !matchingFields.computeIfAbsent(field, key -> matchFieldKey(key.getName()))) {
+                    continue;
+                }
+                searchedAnyField = true;
 
-            for (Field field : fieldsKeys) {
                 Optional<String> fieldValue = entry.getLatexFreeField(field);
-                if (fieldValue.isPresent()) {
-                    if (matchFieldValue(fieldValue.get())) {
-                        return true;
-                    }
+                if (fieldValue.isPresent() && matchFieldValue(fieldValue.get())) {
+                    return true;
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !searchedAnyField && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean matchFieldKey(String key) {
+            if (regularExpression) {
+                return fieldPattern.matcher(key).matches();
+            }
+            return caseSensitive ? fieldName.equals(key) : fieldName.equalsIgnoreCase(key);
         }
 
         public boolean matchFieldValue(String content) {
-            Matcher matcher = valuePattern.matcher(content);
             if (operator == ComparisonOperator.CONTAINS) {
-                return matcher.find();
+                return find(content);
             } else if (operator == ComparisonOperator.EXACT) {
-                return matcher.matches();
+                return matches(content);
             } else if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
-                return !matcher.find();
+                return !find(content);
             } else {
                 throw new IllegalStateException("MUST NOT HAPPEN");
             }
         }
+
+        private boolean find(String content) {
+            if (regularExpression) {
+                return valuePattern.matcher(content).find();
+            }
+            return caseSensitive ? content.contains(value) : StringUtil.containsIgnoreCase(content, value);
+        }
+
+        private boolean matches(String content) {
+            if (regularExpression) {
+                return valuePattern.matcher(content).matches();
+            }
+            return caseSensitive ? content.equals(value) : content.equalsIgnoreCase(value);
+        }
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a tree of {@link SearchMatcher}s. The result is immutable and thus can be
+     * reused for all entries of a library, including from a parallel stream.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchPlanCompiler extends SearchBaseVisitor<SearchMatcher> {
 
         private final EnumSet<SearchFlags> searchFlags;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(EnumSet<SearchFlags> searchFlags, BibEntry bibEntry) {
+        public SearchPlanCompiler(EnumSet<SearchFlags> searchFlags) {
             this.searchFlags = searchFlags;
-            this.entry = bibEntry;
         }
 
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, searchFlags).compare(entry);
+        @Override
+        public SearchMatcher visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
-            return visit(ctx.expression());
+        public SearchMatcher visitAtomExpression(SearchParser.AtomExpressionContext ctx) {
+            return visit(ctx.comparison());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public SearchMatcher visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -254,28 +304,32 @@ public class GrammarBasedSearchRule implements SearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                return new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), searchFlags);
             } else {
-                return SearchRules.getSearchRule(searchFlags).applyRule(right, entry);
+                SearchRule searchRule = SearchRules.getSearchRule(searchFlags);
+                String query = right;
+                return entry -> searchRule.applyRule(query, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public SearchMatcher visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return new NotMatcher(visit(ctx.expression())); // negate
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public SearchMatcher visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public SearchMatcher visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            SearchMatcher left = visit(ctx.left);
+            SearchMatcher right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return entry -> left.isMatch(entry) && right.isMatch(entry); // and
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return entry -> left.isMatch(entry) || right.isMatch(entry); // or
             }
         }
     }
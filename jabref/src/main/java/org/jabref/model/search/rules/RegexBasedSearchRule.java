@@ -35,6 +35,8 @@ public class RegexBasedSearchRule implements SearchRule {
 
     private String lastQuery;
     private List<SearchResult> lastSearchResults;
+    // the rule is applied to every entry with the same query, thus the compiled pattern is kept
+    private volatile Pattern lastPattern;
 
     private final BibDatabaseContext databaseContext;
 
@@ -65,12 +67,15 @@ public class RegexBasedSearchRule implements SearchRule {
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
-        Pattern pattern;
+        Pattern pattern = lastPattern;
 
-        try {
-            pattern = Pattern.compile(query, searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE);
-        } catch (PatternSyntaxException ex) {
-            return false;
+        if ((pattern == null) || !pattern.pattern().equals(query)) {
+            try {
+                pattern = Pattern.compile(query, searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE);
+            } catch (PatternSyntaxException ex) {
+                return false;
+            }
+            lastPattern = pattern;
         }
 
         for (Field field : bibEntry.getFields()) {
@@ -93,17 +98,22 @@ public class RegexBasedSearchRule implements SearchRule {
             return new PdfSearchResults(List.of());
         }
 
-        if (!query.equals(this.lastQuery)) {
-            this.lastQuery = query;
-            lastSearchResults = List.of();
-            try {
-                PdfSearcher searcher = PdfSearcher.of(databaseContext);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastSearchResults = results.getSortedByScore();
-            } catch (IOException e) {
-                LOGGER.error("Could not retrieve search results!", e);
+        List<SearchResult> searchResults;
+        // the rule may be applied to several entries in parallel, but the index should only be queried once
+        synchronized (this) {
+            if (!query.equals(this.lastQuery)) {
+                this.lastQuery = query;
+                lastSearchResults = List.of();
+                try {
+                    PdfSearcher searcher = PdfSearcher.of(databaseContext);
+                    PdfSearchResults results = searcher.search(query, 5);
+                    lastSearchResults = results.getSortedByScore();
+                } catch (IOException e) {
+                    LOGGER.error("Could not retrieve search results!", e);
+                }
             }
+            searchResults = lastSearchResults;
         }
-        return new PdfSearchResults(lastSearchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
+        return new PdfSearchResults(searchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
     }
 }
@@ -1,14 +1,20 @@
 package org.jabref.gui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -51,7 +57,7 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(database, preferencesMock));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
@@ -69,10 +75,50 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(database, preferencesMock));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void updateTimestampsOfBatchEditInOneEvent() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+
+        BibEntry otherEntry = new BibEntry();
+        database.insertEntry(otherEntry);
+        database.registerListener(new UpdateTimestampListener(database, preferencesMock));
+        ChangeEventCounter counter = new ChangeEventCounter();
+        database.registerListener(counter);
+
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            bibEntry.setField(new UnknownField("test"), "some value");
+            otherEntry.setField(new UnknownField("test"), "other value");
+        }
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(Optional.of(newDate), otherEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(0, counter.fieldChangedEvents.size());
+        // the batch edit itself and the timestamps of both entries
+        assertEquals(2, counter.entriesChangedEvents.size());
+        assertEquals(Set.of(StandardField.MODIFICATIONDATE), counter.entriesChangedEvents.get(1).getFields());
+        assertEquals(2, counter.entriesChangedEvents.get(1).getFieldChanges().size());
+    }
+
+    private static class ChangeEventCounter {
+        private final List<FieldChangedEvent> fieldChangedEvents = new ArrayList<>();
+        private final List<EntriesChangedEvent> entriesChangedEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            entriesChangedEvents.add(event);
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompletionIndexTest {
+
+    private BibDatabase database;
+    private CompletionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Efficient indexing"));
+        index = CompletionIndex.forWords(StandardField.TITLE, database);
+    }
+
+    @Test
+    void findsExistingEntries() {
+        assertEquals(List.of("indexing"), index.find("ind", 10));
+    }
+
+    @Test
+    void findsInfix() {
+        assertEquals(List.of("Efficient"), index.find("FICIEN", 10));
+    }
+
+    @Test
+    void findsAddedEntry() {
+        index.build();
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Independent"));
+
+        assertEquals(Set.of("indexing", "Independent"), new HashSet<>(index.find("inde", 10)));
+    }
+
+    @Test
+    void doesNotFindRemovedEntry() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Independent");
+        database.insertEntry(entry);
+        index.build();
+        database.removeEntry(entry);
+
+        assertEquals(List.of("indexing"), index.find("inde", 10));
+    }
+
+    @Test
+    void followsFieldChanges() {
+        index.build();
+        database.getEntries().get(0).setField(StandardField.TITLE, "Parallel indexing");
+
+        assertEquals(Collections.emptyList(), index.find("effic", 10));
+        assertEquals(List.of("Parallel"), index.find("para", 10));
+    }
+
+    @Test
+    void followsFieldChangesOfBatchEdit() {
+        index.build();
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            database.getEntries().get(0).setField(StandardField.TITLE, "Parallel indexing");
+        }
+
+        assertEquals(Collections.emptyList(), index.find("effic", 10));
+        assertEquals(List.of("Parallel"), index.find("para", 10));
+    }
+
+    @Test
+    void changeSeenByBuildIsNotIndexedTwice() {
+        BibEntry entry = database.getEntries().get(0);
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Efficient"));
+        entry.setField(StandardField.TITLE, "Parallel indexing");
+        index.build();
+
+        // the event of the change is delivered after the build has read the new value
+        index.listen(new FieldChangedEvent(entry, StandardField.TITLE, "Parallel indexing", "Efficient indexing"));
+
+        assertEquals(List.of("Efficient"), index.find("effic", 10));
+        database.removeEntry(entry);
+        assertEquals(Collections.emptyList(), index.find("para", 10));
+        assertEquals(Collections.emptyList(), index.find("indexing", 10));
+    }
+
+    @Test
+    void ignoresChangesOfRemovedEntries() {
+        BibEntry entry = database.getEntries().get(0);
+        index.build();
+        database.removeEntry(entry);
+
+        index.listen(new FieldChangedEvent(entry, StandardField.TITLE, "Parallel indexing", "Efficient indexing"));
+
+        assertEquals(Collections.emptyList(), index.find("ind", 10));
+    }
+
+    @Test
+    void ignoresOtherFields() {
+        index.build();
+        database.getEntries().get(0).setField(StandardField.AUTHOR, "Effie");
+
+        assertEquals(List.of("Efficient"), index.find("eff", 10));
+    }
+
+    @Test
+    void keepsTermUsedByOtherEntry() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Incremental indexing");
+        database.insertEntry(entry);
+        index.build();
+        database.removeEntry(entry);
+
+        assertEquals(List.of("indexing"), index.find("indexing", 10));
+    }
+
+    @Test
+    void prefersPrefixMatchesAndFrequentTerms() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Reindexing"));
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Index"));
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Index structures"));
+
+        assertEquals(List.of("Index", "indexing", "Reindexing"), index.find("index", 10));
+        assertEquals(List.of("Index"), index.find("index", 1));
+    }
+}
@@ -1,9 +1,11 @@
 package org.jabref.gui.groups;
 
 import java.util.Arrays;
+import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.stage.Stage;
 
 import org.jabref.gui.StateManager;
 import org.jabref.gui.util.CurrentThreadTaskExecutor;
@@ -20,9 +22,15 @@ import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.preferences.PreferencesService;
+import org.jabref.testutils.category.GUITest;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -167,6 +175,98 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    /**
+     * The hits are published on the JavaFX thread, thus these tests need it
+     */
+    @Nested
+    @GUITest
+    @ExtendWith(ApplicationExtension.class)
+    class HitCount {
+
+        private final GroupTreeNode group = GroupTreeNode.fromGroup(
+                new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "A", true, ',', false));
+        private final BibEntry matchingEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        private final BibEntry otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "B");
+        private GroupNodeViewModel countingViewModel;
+
+        @Start
+        void onStart(Stage stage) {
+            // Needed to init JavaFX thread
+            stage.show();
+        }
+
+        @BeforeEach
+        void setUp() {
+            PreferencesService preferencesService = mock(PreferencesService.class);
+            when(preferencesService.getDisplayGroupCount()).thenReturn(true);
+            databaseContext.getDatabase().insertEntries(matchingEntry, otherEntry);
+
+            countingViewModel = new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferencesService);
+        }
+
+        @Test
+        void hitsAreCountedInitially() {
+            assertEquals(1, getHits());
+        }
+
+        @Test
+        void addingEntriesUpdatesHits() {
+            databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "A, B"));
+            assertEquals(2, getHits());
+
+            databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "C"));
+            assertEquals(2, getHits());
+        }
+
+        @Test
+        void addingEqualEntryCountsBoth() {
+            databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "A"));
+
+            assertEquals(2, getHits());
+        }
+
+        @Test
+        void removingEntriesUpdatesHits() {
+            databaseContext.getDatabase().removeEntry(otherEntry);
+            assertEquals(1, getHits());
+
+            databaseContext.getDatabase().removeEntry(matchingEntry);
+            assertEquals(0, getHits());
+        }
+
+        @Test
+        void editingEntriesUpdatesHits() {
+            otherEntry.setField(StandardField.KEYWORDS, "B, A");
+            assertEquals(2, getHits());
+
+            matchingEntry.clearField(StandardField.KEYWORDS);
+            assertEquals(1, getHits());
+
+            otherEntry.setField(StandardField.TITLE, "A");
+            assertEquals(1, getHits());
+        }
+
+        @Test
+        void hitsMatchRecountAfterMixedChanges() {
+            BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+            BibEntry equalEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+            databaseContext.getDatabase().insertEntries(List.of(addedEntry, equalEntry, new BibEntry().withField(StandardField.KEYWORDS, "C")));
+            otherEntry.setField(StandardField.KEYWORDS, "A");
+            addedEntry.setField(StandardField.KEYWORDS, "C");
+            databaseContext.getDatabase().removeEntries(List.of(matchingEntry, addedEntry));
+            databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "C, A"));
+            equalEntry.clearField(StandardField.KEYWORDS);
+
+            assertEquals(group.findMatches(databaseContext.getDatabase()).size(), getHits());
+            assertEquals(2, getHits());
+        }
+
+        private int getHits() {
+            WaitForAsyncUtils.waitForFxEvents();
+            return countingViewModel.getHits().get();
+        }
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), mock(PreferencesService.class));
     }
@@ -0,0 +1,101 @@
+package org.jabref.gui.maintable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.stage.Stage;
+
+import org.jabref.gui.StateManager;
+import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.preferences.PreferencesService;
+import org.jabref.testutils.category.GUITest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@GUITest
+@ExtendWith(ApplicationExtension.class)
+class MainTableDataModelTest {
+
+    private final BibEntry entryA = new BibEntry().withField(StandardField.KEYWORDS, "A");
+    private final BibEntry entryB = new BibEntry().withField(StandardField.KEYWORDS, "B");
+    private final BibEntry entryAB = new BibEntry().withField(StandardField.KEYWORDS, "A, B");
+    private final BibEntry entryC = new BibEntry().withField(StandardField.KEYWORDS, "C");
+    private final PreferencesService preferencesService = mock(PreferencesService.class, Answers.RETURNS_DEEP_STUBS);
+    private final StateManager stateManager = new StateManager();
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private GroupTreeNode groupA;
+    private GroupTreeNode groupB;
+    private MainTableDataModel model;
+
+    @Start
+    void onStart(Stage stage) {
+        // Needed to init JavaFX thread
+        stage.show();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseContext.getDatabase().insertEntries(entryA, entryB, entryAB, entryC);
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        groupA = root.addSubgroup(new WordKeywordGroup("A", GroupHierarchyType.INCLUDING, StandardField.KEYWORDS, "A", true, ',', false));
+        groupB = root.addSubgroup(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "B", true, ',', false));
+        databaseContext.getMetaData().setGroups(root);
+
+        when(preferencesService.getGroupViewMode()).thenReturn(GroupViewMode.INTERSECTION);
+        stateManager.activeDatabaseProperty().setValue(Optional.of(databaseContext));
+        model = new MainTableDataModel(databaseContext, preferencesService, stateManager);
+    }
+
+    @Test
+    void showsEntriesOfSelectedGroup() {
+        stateManager.setSelectedGroups(databaseContext, List.of(groupA));
+
+        assertEquals(List.of(entryA, entryAB), getShownEntries());
+    }
+
+    @Test
+    void groupTreeChangeRebuildsFilter() {
+        stateManager.setSelectedGroups(databaseContext, List.of(groupA));
+
+        // group A includes the entries of its subgroups
+        groupA.addSubgroup(new WordKeywordGroup("C", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "C", true, ',', false));
+
+        assertEquals(List.of(entryA, entryAB, entryC), getShownEntries());
+    }
+
+    @Test
+    void groupViewModeChangeRebuildsFilter() {
+        stateManager.setSelectedGroups(databaseContext, List.of(groupA, groupB));
+        assertEquals(List.of(entryAB), getShownEntries());
+
+        when(preferencesService.getGroupViewMode()).thenReturn(GroupViewMode.UNION);
+        model.refresh();
+
+        assertEquals(List.of(entryA, entryB, entryAB), getShownEntries());
+    }
+
+    private List<BibEntry> getShownEntries() {
+        WaitForAsyncUtils.waitForFxEvents();
+        return model.getEntriesFilteredAndSorted().stream()
+                    .map(BibEntryTableViewModel::getEntry)
+                    .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,10 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -176,6 +180,70 @@ class MakeLabelWithDatabaseTest {
         assertEquals(Optional.of("Doe2016b"), entry3.getCitationKey());
     }
 
+    @Test
+    void generateKeysOfManyEntriesAppendsLettersInOrderOfEntries() {
+        entry.setCitationKey("Doe2016");
+        BibEntry entry2 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry()
+                .withField(StandardField.AUTHOR, "Jane Doe")
+                .withField(StandardField.YEAR, "2016")
+                .withCitationKey("Doe2016a");
+        BibEntry entry4 = new BibEntry()
+                .withField(StandardField.AUTHOR, "Max Mustermann")
+                .withField(StandardField.YEAR, "2020");
+        database.insertEntries(entry2, entry3, entry4);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry2, entry, entry3, entry4));
+
+        assertEquals(List.of(Optional.of("Doe2016b"), Optional.of("Doe2016"), Optional.of("Doe2016a"), Optional.of("Mustermann2020")),
+                List.of(entry2.getCitationKey(), entry.getCitationKey(), entry3.getCitationKey(), entry4.getCitationKey()));
+    }
+
+    @Test
+    void generateKeysOfManyEntriesYieldsSameKeysAsOneAfterTheOther() {
+        List<BibEntry> entries = new ArrayList<>();
+        List<BibEntry> copies = new ArrayList<>();
+        BibDatabase copiesDatabase = new BibDatabase();
+        for (int i = 0; i < 60; i++) {
+            BibEntry newEntry = new BibEntry()
+                    .withField(StandardField.AUTHOR, (i % 3 == 0) ? "John Doe" : "Erika Mustermann")
+                    .withField(StandardField.YEAR, (i % 2 == 0) ? "2016" : "2017");
+            if (i % 5 == 0) {
+                newEntry.setCitationKey("Doe2016");
+            }
+            entries.add(newEntry);
+            copies.add((BibEntry) newEntry.clone());
+        }
+        database.insertEntries(entries);
+        copiesDatabase.insertEntry((BibEntry) entry.clone());
+        copiesDatabase.insertEntries(copies);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(entries);
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(bibtexKeyPattern, copiesDatabase, preferences);
+        copies.forEach(keyGenerator::generateAndSetKey);
+
+        assertEquals(copies.stream().map(BibEntry::getCitationKey).collect(Collectors.toList()),
+                entries.stream().map(BibEntry::getCitationKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    void generateKeysOfManyEntriesReportsProgressOfEachEntry() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            entries.add(new BibEntry()
+                    .withField(StandardField.AUTHOR, "John Doe")
+                    .withField(StandardField.YEAR, String.valueOf(2000 + i)));
+        }
+        database.insertEntries(entries);
+        List<Integer> progress = new ArrayList<>();
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(entries, progress::add);
+
+        assertEquals(IntStream.rangeClosed(1, entries.size()).boxed().collect(Collectors.toList()), progress);
+    }
+
     @Test
     void generateKeyAuthLowerModified() {
         bibtexKeyPattern.setDefaultValue("[auth:lower][year]");
@@ -0,0 +1,72 @@
+package org.jabref.logic.citationstyle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CSLAdapterPoolTest {
+
+    private static final String STYLE = "style";
+    private static final String OTHER_STYLE = "other style";
+
+    private CSLAdapterPool pool;
+
+    @AfterEach
+    void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void releasedAdapterIsReusedForSameStyleAndFormat() throws Exception {
+        pool = new CSLAdapterPool(2, Long.MAX_VALUE);
+        CSLAdapter adapter = pool.borrow(STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(adapter, STYLE, CitationStyleOutputFormat.HTML);
+
+        assertSame(adapter, pool.borrow(STYLE, CitationStyleOutputFormat.HTML));
+        assertEquals(1, pool.getNumberOfAdapters());
+    }
+
+    @Test
+    void releasedAdapterIsReusedForSameStyleInOtherFormat() throws Exception {
+        pool = new CSLAdapterPool(2, Long.MAX_VALUE);
+        CSLAdapter adapter = pool.borrow(STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(adapter, STYLE, CitationStyleOutputFormat.HTML);
+
+        assertSame(adapter, pool.borrow(STYLE, CitationStyleOutputFormat.TEXT));
+    }
+
+    @Test
+    void concurrentBorrowersGetDifferentAdapters() throws Exception {
+        pool = new CSLAdapterPool(2, Long.MAX_VALUE);
+
+        assertNotSame(pool.borrow(STYLE, CitationStyleOutputFormat.HTML), pool.borrow(STYLE, CitationStyleOutputFormat.HTML));
+        assertEquals(2, pool.getNumberOfAdapters());
+    }
+
+    @Test
+    void adapterOfOtherStyleIsDroppedWhenPoolIsFull() throws Exception {
+        pool = new CSLAdapterPool(1, Long.MAX_VALUE);
+        CSLAdapter adapter = pool.borrow(STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(adapter, STYLE, CitationStyleOutputFormat.HTML);
+
+        CSLAdapter otherAdapter = pool.borrow(OTHER_STYLE, CitationStyleOutputFormat.HTML);
+
+        assertNotSame(adapter, otherAdapter);
+        assertEquals(1, pool.getNumberOfAdapters());
+    }
+
+    @Test
+    void idleAdaptersAreEvicted() throws Exception {
+        pool = new CSLAdapterPool(2, -1);
+        CSLAdapter adapter = pool.borrow(STYLE, CitationStyleOutputFormat.HTML);
+        pool.release(adapter, STYLE, CitationStyleOutputFormat.HTML);
+
+        pool.evictIdleAdapters();
+
+        assertEquals(0, pool.getNumberOfAdapters());
+        assertNotSame(adapter, pool.borrow(STYLE, CitationStyleOutputFormat.HTML));
+    }
+}
@@ -0,0 +1,35 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CitationStyleGeneratorPerEntryTest {
+
+    @Test
+    void generateCitationsPerEntryMatchesCitationOfEachEntry() {
+        // enough entries to be split into shards for several engines
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            entries.add(new BibEntry()
+                    .withField(StandardField.AUTHOR, "Last" + i + ", First")
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(1900 + i)));
+        }
+        String style = CitationStyle.getDefault().getSource();
+        CitationStyleOutputFormat format = CitationStyleOutputFormat.TEXT;
+
+        List<String> expectedCitations = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            expectedCitations.add(CitationStyleGenerator.generateCitation(entry, style, format));
+        }
+
+        assertEquals(expectedCitations, CitationStyleGenerator.generateCitationsPerEntry(entries, style, format));
+    }
+}
@@ -0,0 +1,77 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Smith, John and Doe, Jane")
+            .withField(StandardField.TITLE, "Efficient duplicate detection")
+            .withField(StandardField.YEAR, "2020");
+
+    @Test
+    void entryWithSameAuthorAndYearIsCandidate() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "J. Smith")
+                .withField(StandardField.TITLE, "Something completely different")
+                .withField(StandardField.YEAR, "2020");
+
+        assertEquals(List.of(other), new DuplicateCandidateIndex(List.of(article, other)).getCandidates(article));
+    }
+
+    @Test
+    void entryWithSimilarTitleIsCandidate() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Doe, Jane")
+                .withField(StandardField.TITLE, "{Efficient} Duplicate-Detection")
+                .withField(StandardField.YEAR, "2021");
+
+        assertEquals(List.of(other), new DuplicateCandidateIndex(List.of(article, other)).getCandidates(article));
+    }
+
+    @Test
+    void entryWithSameIsbnIsCandidate() {
+        BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.ISBN, "978-0-306-40615-7");
+        BibEntry other = new BibEntry(StandardEntryType.InBook).withField(StandardField.ISBN, "9780306406157");
+
+        assertEquals(List.of(other), new DuplicateCandidateIndex(List.of(book, other)).getCandidates(book));
+    }
+
+    @Test
+    void unrelatedEntryIsNoCandidate() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Miller, Anna")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+
+        assertTrue(new DuplicateCandidateIndex(List.of(article, other)).getCandidates(article).isEmpty());
+    }
+
+    @Test
+    void entryOfOtherTypeIsNoCandidate() {
+        BibEntry other = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Smith, John and Doe, Jane")
+                .withField(StandardField.TITLE, "Efficient duplicate detection")
+                .withField(StandardField.YEAR, "2020");
+
+        assertTrue(new DuplicateCandidateIndex(List.of(article, other)).getCandidates(article).isEmpty());
+    }
+
+    @Test
+    void candidatesAfterOnlyContainFollowingEntries() {
+        BibEntry copy = (BibEntry) article.clone();
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(article, copy));
+
+        assertEquals(1, candidateIndex.getCandidatesAfter(0).cardinality());
+        assertTrue(candidateIndex.getCandidatesAfter(1).isEmpty());
+    }
+}
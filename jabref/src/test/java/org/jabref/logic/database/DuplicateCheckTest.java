@@ -1,5 +1,10 @@
 package org.jabref.logic.database;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -327,4 +332,63 @@ public class DuplicateCheckTest {
         BibEntry entryTwo = new BibEntry().withField(StandardField.COMMENT, "line1\r\n\r\nline3\r\n\r\nline5");
         assertTrue(duplicateChecker.isDuplicate(entryOne, entryTwo, BibDatabaseMode.BIBTEX));
     }
+
+    @Test
+    void findDuplicatesFindsPairWithSimilarTitle() {
+        BibEntry similarArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious papr about something")
+                .withField(StandardField.YEAR, "2017");
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+
+        duplicateChecker.findDuplicates(List.of(simpleArticle, unrelatedArticle, simpleInbook, similarArticle), BibDatabaseMode.BIBTEX,
+                (first, second) -> duplicates.add(List.of(first, second)));
+
+        assertEquals(List.of(List.of(simpleArticle, similarArticle)), duplicates);
+    }
+
+    @Test
+    void findDuplicatesFindsEntriesWithSameDoi() {
+        BibEntry one = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Something")
+                .withField(StandardField.DOI, "10.1109/CLOUD.2017.89");
+        BibEntry two = new BibEntry(StandardEntryType.InProceedings)
+                .withField(StandardField.TITLE, "Something else")
+                .withField(StandardField.DOI, "10.1109/cloud.2017.89");
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+
+        duplicateChecker.findDuplicates(List.of(one, unrelatedArticle, two), BibDatabaseMode.BIBTEX,
+                (first, second) -> duplicates.add(List.of(first, second)));
+
+        assertEquals(List.of(List.of(one, two)), duplicates);
+    }
+
+    @Test
+    void findDuplicatesFindsAllPairsOfManyEntries() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Author" + i)
+                    .withField(StandardField.TITLE, "Title number " + i)
+                    .withField(StandardField.YEAR, "2000"));
+        }
+        entries.add(new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author500")
+                .withField(StandardField.TITLE, "Title number 500")
+                .withField(StandardField.YEAR, "2000"));
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+
+        duplicateChecker.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> duplicates.add(List.of(first, second)));
+
+        assertEquals(List.of(List.of(entries.get(500), entries.get(1000))), duplicates);
+    }
+
+    @Test
+    void containsDuplicateWithCandidateIndexFindsDuplicate() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(List.of(unrelatedArticle, simpleArticle, simpleInbook));
+
+        assertEquals(Optional.of(simpleArticle), duplicateChecker.containsDuplicate(candidateIndex, copy, BibDatabaseMode.BIBTEX));
+        assertEquals(Optional.empty(), duplicateChecker.containsDuplicate(candidateIndex, simpleIncollection, BibDatabaseMode.BIBTEX));
+    }
 }
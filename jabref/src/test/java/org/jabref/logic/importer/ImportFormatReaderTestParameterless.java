@@ -2,9 +2,14 @@ package org.jabref.logic.importer;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.jabref.logic.importer.fileformat.CustomImporter;
 import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.GeneralPreferences;
@@ -13,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -21,13 +27,13 @@ class ImportFormatReaderTestParameterless {
 
     private ImportFormatReader reader;
     private final FileUpdateMonitor fileMonitor = new DummyFileUpdateMonitor();
+    private final GeneralPreferences generalPreferences = mock(GeneralPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
 
     @BeforeEach
     void setUp() {
         reader = new ImportFormatReader();
-        GeneralPreferences generalPreferences = mock(GeneralPreferences.class, Answers.RETURNS_DEEP_STUBS);
         when(generalPreferences.getDefaultEncoding()).thenReturn(StandardCharsets.UTF_8);
-        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
         when(importFormatPreferences.getCustomImportList()).thenReturn(Set.of());
         reader.resetImportFormats(mock(ImporterPreferences.class), generalPreferences, importFormatPreferences, mock(XmpPreferences.class), fileMonitor);
     }
@@ -38,6 +44,27 @@ class ImportFormatReaderTestParameterless {
         assertThrows(ImportException.class, () -> reader.importUnknownFormat(file, fileMonitor));
     }
 
+    @Test
+    void importUnknownFormatPrefersRecognizedFormatToFallback() throws Exception {
+        Path file = Path.of(ImportFormatReaderTestParameterless.class.getResource("fileformat/RisImporterTest1.ris").toURI());
+        assertEquals("RIS", reader.importUnknownFormat(file, fileMonitor).format);
+    }
+
+    @Test
+    void importUnknownFormatRunsAllCandidatesWithBestScore() throws Exception {
+        String data = "TY  - JOUR\nTI  - Title\nER  - \n";
+        CustomImporter noEntries = mockRecognizingImporter("No entries", data, List.of());
+        CustomImporter twoEntries = mockRecognizingImporter("Two entries", data, List.of(
+                new BibEntry().withField(StandardField.TITLE, "First"),
+                new BibEntry().withField(StandardField.TITLE, "Second")));
+        // the importer with the most entries comes last
+        when(importFormatPreferences.getCustomImportList()).thenReturn(new LinkedHashSet<>(List.of(noEntries, twoEntries)));
+        reader.resetImportFormats(mock(ImporterPreferences.class), generalPreferences, importFormatPreferences, mock(XmpPreferences.class), fileMonitor);
+
+        // RIS, which imports one entry, and both custom importers recognize the data and score the same
+        assertEquals("Two entries", reader.importUnknownFormat(data).format);
+    }
+
     @Test
     void importUnknownFormatThrowsExceptionIfPathIsNull() throws Exception {
         assertThrows(NullPointerException.class, () -> reader.importUnknownFormat(null, fileMonitor));
@@ -52,4 +79,12 @@ class ImportFormatReaderTestParameterless {
     void importFromFileWithUnknownFormatThrowsException() throws Exception {
         assertThrows(ImportException.class, () -> reader.importFromFile("someunknownformat", Path.of("somepath")));
     }
+
+    private static CustomImporter mockRecognizingImporter(String name, String data, List<BibEntry> entries) throws Exception {
+        CustomImporter importer = mock(CustomImporter.class);
+        when(importer.getName()).thenReturn(name);
+        when(importer.isRecognizedFormat(data)).thenReturn(true);
+        when(importer.importDatabase(data)).thenReturn(new ParserResult(entries));
+        return importer;
+    }
 }
@@ -1,6 +1,11 @@
 package org.jabref.logic.importer;
 
 import java.io.BufferedReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -21,9 +26,13 @@ import org.jabref.logic.importer.fileformat.PdfXmpImporter;
 import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.importer.fileformat.SilverPlatterImporter;
+import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
@@ -32,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -100,6 +110,35 @@ public class ImporterTest {
         assertNotNull(format.getDescription());
     }
 
+    @Test
+    public void isRecognizedFormatChecksHeadIfCheckStopsWithinIt() throws Exception {
+        Importer importer = new LinesImporter(lines -> lines.findFirst().filter("%format"::equals).isPresent());
+
+        // the file does not exist, thus it must not be read
+        assertTrue(importer.isRecognizedFormat(Path.of("missing.txt"), StandardCharsets.UTF_8, "%format\nrest of the beginning", false));
+    }
+
+    @Test
+    public void isRecognizedFormatChecksFileIfCheckReadsBeyondHead(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("file.txt");
+        Files.writeString(file, "first line\nsecond line\n%format\n");
+        Importer importer = new LinesImporter(lines -> lines.anyMatch("%format"::equals));
+
+        assertTrue(importer.isRecognizedFormat(file, StandardCharsets.UTF_8, "first line\nsec", false));
+    }
+
+    @Test
+    public void isRecognizedFormatUsesOverriddenFileCheck() throws Exception {
+        Importer importer = new LinesImporter(lines -> false) {
+            @Override
+            public boolean isRecognizedFormat(Path filePath, Charset encoding) {
+                return true;
+            }
+        };
+
+        assertTrue(importer.isRecognizedFormat(Path.of("missing.txt"), StandardCharsets.UTF_8, "", true));
+    }
+
     public static Stream<Importer> instancesToTest() {
         // all classes implementing {@link Importer}
         // sorted alphabetically
@@ -128,4 +167,41 @@ public class ImporterTest {
         );
         // @formatter:on
     }
+
+    /**
+     * Recognizes the format by checking the lines of the source
+     */
+    private static class LinesImporter extends Importer {
+
+        private final Predicate<Stream<String>> check;
+
+        LinesImporter(Predicate<Stream<String>> check) {
+            this.check = check;
+        }
+
+        @Override
+        public boolean isRecognizedFormat(BufferedReader input) {
+            return check.test(input.lines());
+        }
+
+        @Override
+        public ParserResult importDatabase(BufferedReader input) {
+            return new ParserResult();
+        }
+
+        @Override
+        public String getName() {
+            return "Lines";
+        }
+
+        @Override
+        public FileType getFileType() {
+            return StandardFileType.TXT;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Recognizes the format by checking the lines of the source";
+        }
+    }
 }
@@ -41,4 +41,10 @@ public class BibTeXMLImporterTestFiles {
     public void testImportEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new BibTeXMLImporter(), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    public void testImportEntriesStreamed(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesStreamed(new BibTeXMLImporter()::importEntries, fileName, FILE_ENDING);
+    }
 }
@@ -58,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -1196,6 +1197,19 @@ class BibtexParserTest {
         assertEquals(testEntry + OS.NEWLINE, parsedEntry.getParsedSerialization());
     }
 
+    @Test
+    void parseSavesLongEntriesInParsedSerialization() throws IOException {
+        String firstEntry = "@article{first,abstract={" + "a".repeat(20_000) + "}}" + OS.NEWLINE;
+        String secondEntry = "@article{second,abstract={" + "b".repeat(20_000) + "}}";
+        ParserResult result = parser.parse(new StringReader(firstEntry + secondEntry));
+
+        List<BibEntry> parsedEntries = result.getDatabase().getEntries();
+
+        assertEquals(2, parsedEntries.size());
+        assertEquals(firstEntry, parsedEntries.get(0).getParsedSerialization());
+        assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
+    }
+
     @Test
     void parseSavesAllButOneNewlinesBeforeEntryInParsedSerialization() throws IOException {
         String testEntry = "@article{test,author={Ed von Test}}";
@@ -1842,4 +1856,47 @@ class BibtexParserTest {
 
         assertEquals(Optional.of("#apr#"), result.get().getField(StandardField.MONTH));
     }
+
+    @Test
+    void parseLargeLibraryKeepsAllRecordsInOrder() throws IOException {
+        // large libraries are only split into chunks if they can be parsed in parallel
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+
+        // about 8 MiB, twice the size from which on libraries are parsed in parallel
+        StringBuilder bibtex = new StringBuilder("@preamble{some text}" + OS.NEWLINE + "@string{journal = {Journal}}" + OS.NEWLINE);
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            String entry = "@article{key" + i + ", title = {Title {" + i + "}}, journal = journal, abstract = {" + "x".repeat(100) + "}}" + OS.NEWLINE;
+            entries.add(entry);
+            bibtex.append(entry);
+            if (i == 20_000) {
+                bibtex.append("@string{publisher = {Publisher}}" + OS.NEWLINE);
+            } else if (i == 30_000) {
+                bibtex.append("@Comment{jabref-meta: databaseType:biblatex;}" + OS.NEWLINE);
+            }
+        }
+        bibtex.append("% the end");
+
+        ParserResult result = parser.parse(new StringReader(bibtex.toString()));
+
+        assertTrue(parser.getNumberOfParsedChunks() > 1);
+        List<BibEntry> parsedEntries = result.getDatabase().getEntries();
+        assertEquals(entries.size(), parsedEntries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("key" + i), parsedEntries.get(i).getCitationKey());
+            assertEquals(entries.get(i), parsedEntries.get(i).getParsedSerialization());
+        }
+        assertEquals(Optional.of("some text"), result.getDatabase().getPreamble());
+        assertEquals(2, result.getDatabase().getStringCount());
+        assertEquals(Optional.of(BibDatabaseMode.BIBLATEX), result.getMetaData().getMode());
+        assertEquals("% the end", result.getDatabase().getEpilog());
+        assertFalse(result.hasWarnings());
+    }
+
+    @Test
+    void parseSmallLibrarySerially() throws IOException {
+        parser.parse(new StringReader("@article{test, author = {Ed von Test}}"));
+
+        assertEquals(0, parser.getNumberOfParsedChunks());
+    }
 }
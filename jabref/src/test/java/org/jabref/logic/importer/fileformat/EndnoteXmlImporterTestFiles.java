@@ -51,4 +51,10 @@ public class EndnoteXmlImporterTestFiles {
     void testImportEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new EndnoteXmlImporter(preferences), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void testImportEntriesStreamed(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesStreamed(new EndnoteXmlImporter(preferences)::importEntries, fileName, FILE_ENDING);
+    }
 }
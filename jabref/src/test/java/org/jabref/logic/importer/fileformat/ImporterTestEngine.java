@@ -1,5 +1,6 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -8,6 +9,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,6 +60,17 @@ public class ImporterTestEngine {
         BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
     }
 
+    /**
+     * Imports the given file entry by entry and compares the streamed entries with the bib file of the same name.
+     */
+    public static void testImportEntriesStreamed(StreamingImporter importer, String fileName, String fileType) throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Importer.getReader(getPath(fileName), StandardCharsets.UTF_8)) {
+            importer.importEntries(reader, entries::add);
+        }
+        BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
+    }
+
     private static Path getPath(String fileName) throws IOException {
         try {
             return Path.of(ImporterTestEngine.class.getResource(fileName).toURI());
@@ -71,4 +84,12 @@ public class ImporterTestEngine {
                                          .getEntries();
         assertEquals(entries, new ArrayList<BibEntry>());
     }
+
+    /**
+     * The importEntries method of the importers which can stream their entries
+     */
+    @FunctionalInterface
+    public interface StreamingImporter {
+        void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws Exception;
+    }
 }
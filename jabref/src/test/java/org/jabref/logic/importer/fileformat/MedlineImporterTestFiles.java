@@ -42,6 +42,12 @@ public class MedlineImporterTestFiles {
         ImporterTestEngine.testImportEntries(new MedlineImporter(), fileName, FILE_ENDING);
     }
 
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    public void testImportEntriesStreamed(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesStreamed(new MedlineImporter()::importEntries, fileName, FILE_ENDING);
+    }
+
     private static Stream<String> malformedFileNames() throws IOException {
         Predicate<String> fileName = name -> name.startsWith("MedlineImporterTest" + MALFORMED_KEY_WORD)
                 && name.endsWith(FILE_ENDING);
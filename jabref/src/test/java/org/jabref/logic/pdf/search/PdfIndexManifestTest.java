@@ -0,0 +1,66 @@
+package org.jabref.logic.pdf.search;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+import org.jabref.logic.pdf.search.PdfIndexManifest.IndexedFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfIndexManifestTest {
+
+    @Test
+    void savedManifestCanBeLoaded(@TempDir Path indexDir) {
+        PdfIndexManifest manifest = PdfIndexManifest.load(indexDir);
+        manifest.put(new IndexedFile("some, file.pdf", 42, 1000, "abc", 2000));
+        manifest.save();
+
+        Optional<IndexedFile> loaded = PdfIndexManifest.load(indexDir).get("some, file.pdf");
+
+        assertTrue(loaded.isPresent());
+        assertEquals(42, loaded.get().getSize());
+        assertEquals(1000, loaded.get().getModified());
+        assertEquals("abc", loaded.get().getHash());
+        assertEquals(2000, loaded.get().getIndexedAt());
+    }
+
+    @Test
+    void removedFileIsNotLoaded(@TempDir Path indexDir) {
+        PdfIndexManifest manifest = PdfIndexManifest.load(indexDir);
+        manifest.put(new IndexedFile("file.pdf", 42, 1000, "abc", 2000));
+        manifest.save();
+        manifest.remove("file.pdf");
+        manifest.save();
+
+        assertFalse(PdfIndexManifest.load(indexDir).get("file.pdf").isPresent());
+    }
+
+    @Test
+    void indexedFileIsUnchangedWithSameAttributes(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("file.pdf");
+        Files.writeString(file, "content");
+        IndexedFile indexedFile = IndexedFile.of("file.pdf", file);
+
+        assertTrue(indexedFile.isUnchanged(Files.readAttributes(file, BasicFileAttributes.class)));
+
+        Files.writeString(file, "changed content");
+        assertFalse(indexedFile.isUnchanged(Files.readAttributes(file, BasicFileAttributes.class)));
+    }
+
+    @Test
+    void filesWithSameContentHaveSameHash(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("file.pdf");
+        Path copy = directory.resolve("copy.pdf");
+        Files.writeString(file, "content");
+        Files.writeString(copy, "content");
+
+        assertEquals(IndexedFile.hash(file), IndexedFile.hash(copy));
+    }
+}
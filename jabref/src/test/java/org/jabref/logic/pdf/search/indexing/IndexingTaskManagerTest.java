@@ -0,0 +1,212 @@
+package org.jabref.logic.pdf.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javafx.stage.Stage;
+
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.pdf.search.PdfIndex;
+import org.jabref.logic.pdf.search.PdfIndexManifest.IndexedFile;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.pdf.search.SearchFieldConstants;
+import org.jabref.preferences.FilePreferences;
+import org.jabref.testutils.category.GUITest;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@GUITest
+@ExtendWith(ApplicationExtension.class)
+class IndexingTaskManagerTest {
+
+    private static final List<String> PDF_FILES = List.of("thesis-example.pdf", "metaData.pdf");
+
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final BibDatabase database = new BibDatabase();
+    private BibDatabaseContext context;
+    private BibDatabaseContext serialContext;
+    private IndexingTaskManager taskManager;
+
+    @Start
+    void onStart(Stage stage) {
+        // Needed to init JavaFX thread
+        stage.show();
+    }
+
+    @BeforeEach
+    void setUp(@TempDir Path pdfDir, @TempDir Path indexDir, @TempDir Path serialIndexDir) throws IOException {
+        // more files than can be read ahead, so that the writer has to wait for the readers
+        for (int i = 0; i < (2 * IndexingTaskManager.MAX_FILES_IN_FLIGHT); i++) {
+            String fileName = "file" + i + ".pdf";
+            Files.copy(Path.of("src/test/resources/pdfs", PDF_FILES.get(i % PDF_FILES.size())), pdfDir.resolve(fileName));
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setFiles(Collections.singletonList(new LinkedFile("", fileName, StandardFileType.PDF.getName())));
+            database.insertEntry(entry);
+        }
+        context = mockContext(pdfDir, indexDir);
+        serialContext = mockContext(pdfDir, serialIndexDir);
+
+        // the task is run by the test itself, the executor only keeps it from being started on enqueueing
+        taskManager = new IndexingTaskManager(mock(TaskExecutor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        PdfIndex.shutdown(context);
+        PdfIndex.shutdown(serialContext);
+    }
+
+    @Test
+    void parallelIndexingYieldsSameDocumentsAsSerialIndexing() throws Exception {
+        PdfIndexer.of(serialContext, filePreferences).addToIndex(serialContext);
+
+        taskManager.addToIndex(PdfIndexer.of(context, filePreferences), context);
+        taskManager.call();
+        PdfIndex.of(context).commit();
+
+        List<String> documents = readDocuments(context.getFulltextIndexPath());
+        assertEquals(readDocuments(serialContext.getFulltextIndexPath()), documents);
+        assertEquals(indexedPaths(documents), manifestLinks(context));
+    }
+
+    @Test
+    void readAheadStaysWithinBound() throws Exception {
+        CountingPdfIndexer indexer = new CountingPdfIndexer(PdfIndex.of(context));
+
+        taskManager.addToIndex(indexer, context);
+        taskManager.call();
+
+        assertEquals(database.getEntryCount(), indexer.written.get());
+        assertTrue(indexer.maxReadAhead.get() <= IndexingTaskManager.MAX_FILES_IN_FLIGHT,
+                "read ahead " + indexer.maxReadAhead.get() + " files");
+    }
+
+    @Test
+    void cancelingStopsWithoutPartiallyIndexedFiles() throws Exception {
+        PdfIndexer.of(serialContext, filePreferences).addToIndex(serialContext);
+        CountingPdfIndexer indexer = new CountingPdfIndexer(PdfIndex.of(context));
+        indexer.cancelAfterWrites(3);
+
+        taskManager.addToIndex(indexer, context);
+        taskManager.call();
+        PdfIndex.of(context).commit();
+
+        assertEquals(3, indexer.written.get());
+        List<String> documents = readDocuments(context.getFulltextIndexPath());
+        Set<String> indexedPaths = indexedPaths(documents);
+        assertEquals(3, indexedPaths.size());
+        // each file in the index has all of its pages
+        List<String> serialDocuments = readDocuments(serialContext.getFulltextIndexPath()).stream()
+                                                                                         .filter(document -> indexedPaths.contains(pathOf(document)))
+                                                                                         .collect(Collectors.toList());
+        assertEquals(serialDocuments, documents);
+        assertEquals(indexedPaths, manifestLinks(context));
+    }
+
+    private BibDatabaseContext mockContext(Path pdfDir, Path indexDir) {
+        BibDatabaseContext databaseContext = mock(BibDatabaseContext.class);
+        when(databaseContext.getFileDirectories(Mockito.any())).thenReturn(Collections.singletonList(pdfDir));
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        when(databaseContext.getDatabase()).thenReturn(database);
+        when(databaseContext.getEntries()).thenReturn(database.getEntries());
+        return databaseContext;
+    }
+
+    /**
+     * Returns the path, page number and content of each document in the index, sorted
+     */
+    private static List<String> readDocuments(Path indexDir) throws IOException {
+        List<String> documents = new ArrayList<>();
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(indexDir))) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            for (ScoreDoc scoreDoc : searcher.search(new MatchAllDocsQuery(), Math.max(1, reader.numDocs())).scoreDocs) {
+                Document document = searcher.doc(scoreDoc.doc);
+                documents.add(document.get(SearchFieldConstants.PATH) + "\n"
+                        + document.get(SearchFieldConstants.PAGE_NUMBER) + "\n"
+                        + document.get(SearchFieldConstants.CONTENT));
+            }
+        }
+        Collections.sort(documents);
+        return documents;
+    }
+
+    private static String pathOf(String document) {
+        return document.substring(0, document.indexOf('\n'));
+    }
+
+    private static Set<String> indexedPaths(List<String> documents) {
+        return documents.stream().map(IndexingTaskManagerTest::pathOf).collect(Collectors.toSet());
+    }
+
+    private static Set<String> manifestLinks(BibDatabaseContext databaseContext) throws IOException {
+        return PdfIndex.of(databaseContext).getManifest().getIndexedFiles().stream()
+                       .map(IndexedFile::getLink)
+                       .collect(Collectors.toSet());
+    }
+
+    /**
+     * Counts the files being read ahead of the writer
+     */
+    private class CountingPdfIndexer extends PdfIndexer {
+
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger maxReadAhead = new AtomicInteger();
+        private int cancelAfterWrites = Integer.MAX_VALUE;
+
+        CountingPdfIndexer(PdfIndex index) {
+            super(index, filePreferences);
+        }
+
+        void cancelAfterWrites(int writes) {
+            cancelAfterWrites = writes;
+        }
+
+        @Override
+        public Optional<ExtractedFile> readFileToIndex(BibEntry entry, LinkedFile linkedFile, BibDatabaseContext databaseContext) {
+            int readAhead = started.incrementAndGet() - written.get();
+            maxReadAhead.accumulateAndGet(readAhead, Math::max);
+            return super.readFileToIndex(entry, linkedFile, databaseContext);
+        }
+
+        @Override
+        public void writeToIndex(ExtractedFile file) {
+            super.writeToIndex(file);
+            if (written.incrementAndGet() == cancelAfterWrites) {
+                taskManager.cancel();
+            }
+        }
+    }
+}
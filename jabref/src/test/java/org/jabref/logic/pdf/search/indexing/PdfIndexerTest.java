@@ -1,27 +1,37 @@
 package org.jabref.logic.pdf.search.indexing;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import org.jabref.logic.pdf.search.PdfIndex;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +55,11 @@ public class PdfIndexerTest {
         this.indexer = PdfIndexer.of(context, filePreferences);
     }
 
+    @AfterEach
+    public void tearDown() {
+        PdfIndex.shutdown(context);
+    }
+
     @Test
     public void exampleThesisIndex() throws IOException {
         // given
@@ -183,5 +198,147 @@ public class PdfIndexerTest {
             assertEquals(34, reader.numDocs());
         }
     }
-}
 
+    @Test
+    public void singleFileIsSearchableBeforeCommit() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        LinkedFile linkedFile = new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName());
+        entry.setFiles(Collections.singletonList(linkedFile));
+        database.insertEntry(entry);
+        indexer.createIndex();
+
+        // when
+        indexer.addToIndex(entry, linkedFile, context);
+
+        // then
+        SearcherManager searcherManager = PdfIndex.of(context).getSearcherManager();
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            assertEquals(33, searcher.getIndexReader().numDocs());
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Test
+    public void fileAddedBeforeCommitIsNotReadAgain() throws IOException {
+        // given
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis);
+        LinkedFile thesisFile = new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName());
+        thesis.setFiles(Collections.singletonList(thesisFile));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article);
+        LinkedFile metadataFile = new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName());
+        metadata.setFiles(Collections.singletonList(metadataFile));
+        database.insertEntries(thesis, metadata);
+        indexer.createIndex();
+        indexer.addToIndex(thesis, thesisFile, context);
+        indexer.addToIndex(metadata, metadataFile, context);
+
+        // when
+        Optional<PdfIndexer.ExtractedFile> extractedThesis = indexer.readFileToIndex(thesis, thesisFile, context);
+        Optional<PdfIndexer.ExtractedFile> extractedMetadata = indexer.readFileToIndex(metadata, metadataFile, context);
+
+        // then
+        assertTrue(extractedThesis.isEmpty());
+        assertTrue(extractedMetadata.isEmpty());
+    }
+
+    @Test
+    public void reindexingUnchangedFileDoesNotDuplicateDocuments() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+        indexer.addToIndex(context);
+
+        // when
+        indexer.addToIndex(context);
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void updateIndexReportsNewFiles() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        LinkedFile linkedFile = new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName());
+        entry.setFiles(Collections.singletonList(linkedFile));
+        database.insertEntry(entry);
+        indexer.createIndex();
+
+        // when
+        List<LinkedFile> filesToIndex = new ArrayList<>();
+        indexer.updateIndex(context, (bibEntry, file) -> filesToIndex.add(file));
+
+        // then
+        assertEquals(List.of(linkedFile), filesToIndex);
+    }
+
+    @Test
+    public void updateIndexSkipsIndexedFiles() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+        indexer.addToIndex(context);
+
+        // when
+        List<LinkedFile> filesToIndex = new ArrayList<>();
+        indexer.updateIndex(context, (bibEntry, file) -> filesToIndex.add(file));
+
+        // then
+        assertTrue(filesToIndex.isEmpty());
+    }
+
+    @Test
+    public void updateIndexRemovesUnlinkedFiles() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+        indexer.addToIndex(context);
+
+        // when
+        entry.setFiles(Collections.singletonList(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+        indexer.updateIndex(context, (bibEntry, file) -> indexer.addToIndex(bibEntry, file, context));
+        PdfIndex.of(context).commit();
+
+        // then
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(1, reader.numDocs());
+        }
+    }
+
+    @Test
+    public void updateIndexMovesRenamedFileWithoutReadingIt(@TempDir Path pdfDir) throws IOException {
+        // given
+        when(context.getFileDirectories(Mockito.any())).thenReturn(Collections.singletonList(pdfDir));
+        Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), pdfDir.resolve("thesis.pdf"));
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis);
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "thesis.pdf", StandardFileType.PDF.getName())));
+        database.insertEntry(entry);
+        indexer.createIndex();
+        indexer.addToIndex(context);
+
+        // when
+        Files.move(pdfDir.resolve("thesis.pdf"), pdfDir.resolve("renamed.pdf"));
+        entry.setFiles(Collections.singletonList(new LinkedFile("Example Thesis", "renamed.pdf", StandardFileType.PDF.getName())));
+        List<LinkedFile> filesToIndex = new ArrayList<>();
+        indexer.updateIndex(context, (bibEntry, file) -> filesToIndex.add(file));
+
+        // then
+        assertTrue(filesToIndex.isEmpty());
+        try (IndexReader reader = DirectoryReader.open(new NIOFSDirectory(context.getFulltextIndexPath()))) {
+            assertEquals(33, reader.numDocs());
+            assertEquals(33, reader.docFreq(new Term(SearchFieldConstants.PATH, "renamed.pdf")));
+        }
+    }
+}
@@ -44,6 +44,16 @@ class ProtectedTermsLoaderTest {
         assertEquals(Arrays.asList("Einstein"), loader.getProtectedTerms());
     }
 
+    @Test
+    void protectedTermsMatcherFollowsEnabledLists(@TempDir Path tempDir) {
+        ProtectedTermsList list = loader.addNewProtectedTermsList("My new list", tempDir.resolve("MyNewList.terms").toString());
+        list.addProtectedTerm("JabRef");
+        assertEquals("{JabRef}", loader.getProtectedTermsMatcher().protectTerms("JabRef"));
+
+        list.setEnabled(false);
+        assertEquals("JabRef", loader.getProtectedTermsMatcher().protectTerms("JabRef"));
+    }
+
     @Test
     void testAddProtectedTermsListFromFile() throws URISyntaxException {
         String filename = Path.of(
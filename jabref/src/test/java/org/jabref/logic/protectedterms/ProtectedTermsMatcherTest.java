@@ -0,0 +1,47 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("3G", "3GPP", "CDMA", "New York", "C++"));
+
+    @Test
+    void protectsTermsAfterSeparators() {
+        assertEquals("{CDMA} in ({3GPP}) and \"{CDMA}\"/{CDMA}", matcher.protectTerms("CDMA in (3GPP) and \"CDMA\"/CDMA"));
+    }
+
+    @Test
+    void protectsLongestTerm() {
+        assertEquals("{3GPP} {3G}", matcher.protectTerms("3GPP 3G"));
+    }
+
+    @Test
+    void protectsAdjacentTerms() {
+        assertEquals("{CDMA}-{CDMA}", matcher.protectTerms("CDMA-CDMA"));
+    }
+
+    @Test
+    void doesNotProtectPartOfWord() {
+        assertEquals("CDMAs 3GPPP xCDMA", matcher.protectTerms("CDMAs 3GPPP xCDMA"));
+    }
+
+    @Test
+    void doesNotProtectAlreadyProtectedTerms() {
+        assertEquals("{CDMA} {New York}", matcher.protectTerms("{CDMA} {New York}"));
+    }
+
+    @Test
+    void protectsTermsFollowedByDigits() {
+        assertEquals("{CDMA}2000", matcher.protectTerms("CDMA2000"));
+    }
+
+    @Test
+    void matchesTermsLiterally() {
+        assertEquals("{C++} and C--", matcher.protectTerms("C++ and C--"));
+    }
+}
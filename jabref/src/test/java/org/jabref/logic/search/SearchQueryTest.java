@@ -155,6 +155,11 @@ public class SearchQueryTest {
         assertTrue(new SearchQuery("123", EnumSet.of(SearchRules.SearchFlags.CASE_SENSITIVE, SearchRules.SearchFlags.REGULAR_EXPRESSION)).isValid());
     }
 
+    @Test
+    public void testIsNotValidQueryWithInvalidRegExInFieldComparison() {
+        assertFalse(new SearchQuery("title=\"[a\"", EnumSet.of(SearchRules.SearchFlags.CASE_SENSITIVE, SearchRules.SearchFlags.REGULAR_EXPRESSION)).isValid());
+    }
+
     @Test
     public void testIsValidQueryContainsBracketAsRegEx() {
         assertTrue(new SearchQuery("asdf[", EnumSet.of(SearchRules.SearchFlags.CASE_SENSITIVE, SearchRules.SearchFlags.REGULAR_EXPRESSION)).isValid());
@@ -139,6 +139,38 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedEntry), actualEntry);
     }
 
+    @Test
+    void testUpdateEntryTwiceStoresEachFieldOnce() throws Exception {
+        BibEntry expectedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        expectedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        dbmsProcessor.updateEntry(expectedEntry);
+        expectedEntry.setField(StandardField.AUTHOR, "Hutchings");
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        int numberOfFields = 0;
+        try (ResultSet fieldResultSet = selectFrom("FIELD", dbmsConnection, dbmsProcessor)) {
+            while (fieldResultSet.next()) {
+                numberOfFields++;
+            }
+        }
+        assertEquals(expectedEntry.getFields().size(), numberOfFields);
+        assertEquals(Optional.of(expectedEntry), dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void testUpdateEntryIncreasesLocalVersion() throws Exception {
+        BibEntry bibEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(bibEntry);
+
+        bibEntry.setField(StandardField.YEAR, "1993");
+        dbmsProcessor.updateEntry(bibEntry);
+
+        assertEquals(2, bibEntry.getSharedBibEntryData().getVersion());
+        assertEquals(Map.of(bibEntry.getSharedBibEntryData().getSharedID(), 2), dbmsProcessor.getSharedIDVersionMapping());
+    }
+
     @Test
     void testUpdateEmptyEntry() throws Exception {
         BibEntry expectedEntry = new BibEntry(StandardEntryType.Article);
@@ -302,6 +334,41 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void testGetChangesAfter() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long sequenceNumber = dbmsProcessor.getLastChangeSequenceNumber();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(firstEntry);
+
+        List<Integer> expectedChangedIDs = Arrays.asList(
+                secondEntry.getSharedBibEntryData().getSharedID(),
+                firstEntry.getSharedBibEntryData().getSharedID());
+        List<Integer> actualChangedIDs = new ArrayList<>(dbmsProcessor.getChangesAfter(sequenceNumber).values());
+
+        assertEquals(expectedChangedIDs, actualChangedIDs);
+        assertEquals(Collections.singletonMap(firstEntry.getSharedBibEntryData().getSharedID(), 2),
+                dbmsProcessor.getSharedIDVersionMapping(Collections.singletonList(firstEntry.getSharedBibEntryData().getSharedID())));
+    }
+
+    @Test
+    void removeChangesUpToKeepsLaterChanges() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long sequenceNumber = dbmsProcessor.getLastChangeSequenceNumber();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.removeChangesUpTo(sequenceNumber);
+
+        assertEquals(dbmsProcessor.getLastChangeSequenceNumber(), dbmsProcessor.getFirstChangeSequenceNumber());
+        assertEquals(List.of(secondEntry.getSharedBibEntryData().getSharedID()),
+                new ArrayList<>(dbmsProcessor.getChangesAfter(0).values()));
+    }
+
     @Test
     void testGetSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
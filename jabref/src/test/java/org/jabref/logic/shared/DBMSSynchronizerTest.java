@@ -80,6 +80,7 @@ public class DBMSSynchronizerTest {
         bibDatabase.insertEntry(expectedEntry);
         // should not add into shared database.
         bibDatabase.insertEntry(furtherEntry, EntriesEventSource.SHARED);
+        dbmsSynchronizer.writePendingChanges();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
 
@@ -94,6 +95,7 @@ public class DBMSSynchronizerTest {
         bibDatabase.insertEntry(expectedEntry);
         expectedEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
         expectedEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        dbmsSynchronizer.writePendingChanges();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(Collections.singletonList(expectedEntry), actualEntries);
@@ -108,6 +110,7 @@ public class DBMSSynchronizerTest {
         exampleBibEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
         // shared updates are not synchronized back to the remote database
         exampleBibEntry.setField(StandardField.TITLE, "The micro multiplexer", EntriesEventSource.SHARED);
+        dbmsSynchronizer.writePendingChanges();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
 
@@ -121,18 +124,21 @@ public class DBMSSynchronizerTest {
     public void testEntriesRemovedEventListener() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.writePendingChanges();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(1, actualEntries.size());
         assertEquals(bibEntry, actualEntries.get(0));
 
         bibDatabase.removeEntry(bibEntry);
+        dbmsSynchronizer.writePendingChanges();
         actualEntries = dbmsProcessor.getSharedEntries();
 
         assertEquals(0, actualEntries.size());
 
         bibDatabase.insertEntry(bibEntry);
         bibDatabase.removeEntry(bibEntry, EntriesEventSource.SHARED);
+        dbmsSynchronizer.writePendingChanges();
 
         actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(1, actualEntries.size());
@@ -145,6 +151,7 @@ public class DBMSSynchronizerTest {
         testMetaData.registerListener(dbmsSynchronizer);
         dbmsSynchronizer.setMetaData(testMetaData);
         testMetaData.setMode(BibDatabaseMode.BIBTEX);
+        dbmsSynchronizer.writePendingChanges();
 
         Map<String, String> expectedMap = MetaDataSerializer.getSerializedStringMap(testMetaData, pattern);
         Map<String, String> actualMap = dbmsProcessor.getSharedMetaData();
@@ -186,6 +193,7 @@ public class DBMSSynchronizerTest {
     public void testSynchronizeLocalDatabaseWithEntryUpdate() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.writePendingChanges();
         assertEquals(List.of(bibEntry), bibDatabase.getEntries());
 
         BibEntry modifiedBibEntry = createExampleBibEntry(1)
@@ -205,6 +213,7 @@ public class DBMSSynchronizerTest {
     public void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
         bibDatabase.insertEntry(bibEntry);
+        dbmsSynchronizer.writePendingChanges();
         assertEquals(List.of(bibEntry), bibDatabase.getEntries());
 
         BibEntry modifiedBibEntry = createExampleBibEntry(1)
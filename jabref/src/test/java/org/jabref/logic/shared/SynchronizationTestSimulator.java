@@ -30,6 +30,8 @@ public class SynchronizationTestSimulator {
 
     private BibDatabaseContext clientContextA;
     private BibDatabaseContext clientContextB;
+    private DBMSSynchronizer synchronizerA;
+    private DBMSSynchronizer synchronizerB;
     private SynchronizationTestEventListener eventListenerB; // used to monitor occurring events
     private final GlobalCitationKeyPattern pattern = GlobalCitationKeyPattern.fromPattern("[auth][year]");
 
@@ -48,12 +50,12 @@ public class SynchronizationTestSimulator {
         TestManager.clearTables(dbmsConnection);
 
         clientContextA = new BibDatabaseContext();
-        DBMSSynchronizer synchronizerA = new DBMSSynchronizer(clientContextA, ',', pattern, new DummyFileUpdateMonitor());
+        synchronizerA = new DBMSSynchronizer(clientContextA, ',', pattern, new DummyFileUpdateMonitor());
         clientContextA.convertToSharedDatabase(synchronizerA);
         clientContextA.getDBMSSynchronizer().openSharedDatabase(dbmsConnection);
 
         clientContextB = new BibDatabaseContext();
-        DBMSSynchronizer synchronizerB = new DBMSSynchronizer(clientContextB, ',', pattern, new DummyFileUpdateMonitor());
+        synchronizerB = new DBMSSynchronizer(clientContextB, ',', pattern, new DummyFileUpdateMonitor());
         clientContextB.convertToSharedDatabase(synchronizerB);
         // use a second connection, because this is another client (typically on another machine)
         clientContextB.getDBMSSynchronizer().openSharedDatabase(TestConnector.getTestDBMSConnection(TestManager.getDBMSTypeTestParameter()));
@@ -73,6 +75,7 @@ public class SynchronizationTestSimulator {
         clientContextA.getDatabase().insertEntry(getBibEntryExample(1));
         // client A inserts another entry
         clientContextA.getDatabase().insertEntry(getBibEntryExample(2));
+        synchronizerA.writePendingChanges();
         // client B pulls the changes
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -88,6 +91,7 @@ public class SynchronizationTestSimulator {
         bibEntry.setField(new UnknownField("custom"), "custom value");
         // client B pulls the changes
         bibEntry.clearField(StandardField.AUTHOR);
+        synchronizerA.writePendingChanges();
 
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -99,6 +103,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntry = getBibEntryExample(1);
         // client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntry);
+        synchronizerA.writePendingChanges();
         // client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -108,6 +113,7 @@ public class SynchronizationTestSimulator {
 
         // client A removes the entry
         clientContextA.getDatabase().removeEntry(bibEntry);
+        synchronizerA.writePendingChanges();
         // client B pulls the change
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -120,6 +126,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         // client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA);
+        synchronizerA.writePendingChanges();
         // client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -129,12 +136,14 @@ public class SynchronizationTestSimulator {
 
         // client A removes the entry
         clientContextA.getDatabase().removeEntry(bibEntryOfClientA);
+        synchronizerA.writePendingChanges();
 
         assertFalse(clientContextB.getDatabase().getEntries().isEmpty());
         assertNull(eventListenerB.getSharedEntriesNotPresentEvent());
         // client B tries to update the entry
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0);
         bibEntryOfClientB.setField(StandardField.YEAR, "2009");
+        synchronizerB.writePendingChanges();
 
         // here a new SharedEntryNotPresentEvent has been thrown. In this case the user B would get an pop-up window.
         assertNotNull(eventListenerB.getSharedEntriesNotPresentEvent());
@@ -146,11 +155,13 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         // client A inserts an entry
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA);
+        synchronizerA.writePendingChanges();
         // client B pulls the entry
         clientContextB.getDBMSSynchronizer().pullChanges();
 
         // A now increases the version number
         bibEntryOfClientA.setField(StandardField.YEAR, "2001");
+        synchronizerA.writePendingChanges();
 
         // B does nothing here, so there is no event occurrence
         assertFalse(clientContextB.getDatabase().getEntries().isEmpty());
@@ -159,6 +170,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0);
         // B also tries to change something
         bibEntryOfClientB.setField(StandardField.YEAR, "2016");
+        synchronizerB.writePendingChanges();
 
         // B now cannot update the shared entry, due to optimistic offline lock.
         // In this case an BibEntry merge dialog pops up.
@@ -0,0 +1,159 @@
+package org.jabref.logic.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindQueueTest {
+
+    private final List<WriteBehindQueue.Changes> writtenChanges = new ArrayList<>();
+    private WriteBehindQueue queue;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        // flush explicitly only
+        queue = new WriteBehindQueue(writtenChanges::add, Long.MAX_VALUE);
+        entry = new BibEntry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void updatesOfAnEntryAreWrittenOnce() {
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.enqueueUpdate(entry, StandardField.TITLE);
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.flush();
+
+        assertEquals(1, writtenChanges.size());
+        List<WriteBehindQueue.PendingWrite> writes = writtenChanges.get(0).getWrites();
+        assertEquals(1, writes.size());
+        assertSame(entry, writes.get(0).getEntry());
+        assertEquals(WriteBehindQueue.WriteType.UPDATE, writes.get(0).getType());
+        assertEquals(Optional.of(Set.of(StandardField.AUTHOR, StandardField.TITLE)), writes.get(0).getFields());
+        assertEquals(3, queue.getEnqueuedChanges());
+        assertEquals(2, queue.getCoalescedChanges());
+        assertEquals(1, queue.getWrittenEntries());
+    }
+
+    @Test
+    void updateOfInsertedEntryIsPartOfTheInsert() {
+        queue.enqueueInsert(entry);
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.flush();
+
+        assertEquals(List.of(entry), writtenChanges.get(0).getEntries(WriteBehindQueue.WriteType.INSERT));
+        assertEquals(1, writtenChanges.get(0).getWrites().size());
+    }
+
+    @Test
+    void entryInsertedAndRemovedIsNotWritten() {
+        queue.enqueueInsert(entry);
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.enqueueRemoval(entry);
+        queue.flush();
+
+        assertTrue(writtenChanges.isEmpty());
+        assertEquals(0, queue.getPendingWrites());
+    }
+
+    @Test
+    void removalReplacesUpdate() {
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.enqueueRemoval(entry);
+        queue.flush();
+
+        assertEquals(List.of(entry), writtenChanges.get(0).getEntries(WriteBehindQueue.WriteType.REMOVE));
+        assertEquals(List.of(), writtenChanges.get(0).getEntries(WriteBehindQueue.WriteType.UPDATE));
+    }
+
+    @Test
+    void entryReinsertedBeforeRemovalIsWrittenIsUpdatedCompletely() {
+        queue.enqueueRemoval(entry);
+        queue.enqueueInsert(entry);
+        queue.flush();
+
+        List<WriteBehindQueue.PendingWrite> writes = writtenChanges.get(0).getWrites();
+        assertEquals(WriteBehindQueue.WriteType.UPDATE, writes.get(0).getType());
+        assertEquals(Optional.empty(), writes.get(0).getFields());
+    }
+
+    @Test
+    void changesOfDifferentEntriesAreWrittenInOrder() {
+        BibEntry otherEntry = new BibEntry();
+        queue.enqueueUpdate(entry, StandardField.AUTHOR);
+        queue.enqueueInsert(otherEntry);
+        queue.enqueueUpdate(entry, StandardField.TITLE);
+        queue.flush();
+
+        List<WriteBehindQueue.PendingWrite> writes = writtenChanges.get(0).getWrites();
+        assertEquals(2, writes.size());
+        assertSame(entry, writes.get(0).getEntry());
+        assertSame(otherEntry, writes.get(1).getEntry());
+        assertEquals(2, queue.getMaxPendingWrites());
+    }
+
+    @Test
+    void metaDataChangeIsWritten() {
+        MetaData metaData = new MetaData();
+        queue.enqueueMetaDataChange(metaData);
+        queue.flush();
+
+        assertEquals(Optional.of(metaData), writtenChanges.get(0).getChangedMetaData());
+    }
+
+    @Test
+    void flushWithoutChangesWritesNothing() {
+        queue.flush();
+
+        assertTrue(writtenChanges.isEmpty());
+    }
+
+    @Test
+    void taskRunsOnWriterThread() {
+        List<Boolean> runOnWriterThread = new ArrayList<>();
+        queue.runOnWriterThread(() -> runOnWriterThread.add(queue.isWriterThread()));
+
+        assertEquals(List.of(true), runOnWriterThread);
+        assertFalse(queue.isWriterThread());
+    }
+
+    @Test
+    void flushWithinTaskWritesPendingChanges() {
+        List<Integer> writtenWithinTask = new ArrayList<>();
+        queue.enqueueInsert(entry);
+        queue.runOnWriterThread(() -> {
+            queue.flush();
+            writtenWithinTask.add(writtenChanges.size());
+        });
+
+        assertEquals(List.of(1), writtenWithinTask);
+    }
+
+    @Test
+    void submittedTaskRunsOnWriterThreadBeforeLaterFlush() {
+        List<Boolean> runOnWriterThread = new ArrayList<>();
+        queue.submitToWriterThread(() -> runOnWriterThread.add(queue.isWriterThread()));
+        queue.flush();
+
+        assertEquals(List.of(true), runOnWriterThread);
+    }
+}
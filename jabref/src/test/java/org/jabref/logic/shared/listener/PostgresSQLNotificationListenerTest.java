@@ -0,0 +1,55 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgresSQLNotificationListenerTest {
+
+    private static final String PROCESSOR_ID = "c0ffee00-0000-4000-8000-000000000000";
+
+    @Test
+    void payloadContainsChangedEntries() {
+        Map<Integer, Integer> changedIDVersions = Map.of(1, 3, 42, 0);
+
+        List<String> payloads = PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedIDVersions);
+
+        assertEquals(1, payloads.size());
+        assertTrue(payloads.get(0).startsWith(PROCESSOR_ID));
+        assertEquals(Optional.of(changedIDVersions), PostgresSQLNotificationListener.parsePayload(payloads.get(0)));
+    }
+
+    @Test
+    void manyChangedEntriesAreSplitIntoSeveralPayloads() {
+        Map<Integer, Integer> changedIDVersions = new HashMap<>();
+        for (int sharedID = 1; sharedID <= 2000; sharedID++) {
+            changedIDVersions.put(sharedID, 1000000 + sharedID);
+        }
+
+        List<String> payloads = PostgresSQLNotificationListener.createPayloads(PROCESSOR_ID, changedIDVersions);
+
+        assertTrue(payloads.size() > 1);
+        Map<Integer, Integer> parsedIDVersions = new HashMap<>();
+        for (String payload : payloads) {
+            assertTrue(payload.length() < 8000);
+            parsedIDVersions.putAll(PostgresSQLNotificationListener.parsePayload(payload).orElseThrow());
+        }
+        assertEquals(changedIDVersions, parsedIDVersions);
+    }
+
+    @Test
+    void payloadWithoutEntriesRequestsFullPull() {
+        assertEquals(Optional.empty(), PostgresSQLNotificationListener.parsePayload(PROCESSOR_ID));
+    }
+
+    @Test
+    void invalidPayloadRequestsFullPull() {
+        assertEquals(Optional.empty(), PostgresSQLNotificationListener.parsePayload(PROCESSOR_ID + ";1:a"));
+    }
+}
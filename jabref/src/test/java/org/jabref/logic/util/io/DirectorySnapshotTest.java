@@ -0,0 +1,82 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectorySnapshotTest {
+
+    private static final List<String> EXTENSIONS = List.of("pdf");
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path subDirPdfFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws Exception {
+        rootDir = temporaryFolder.resolve("files");
+        subDir = Files.createDirectories(rootDir.resolve("sub").resolve("subsub"));
+        pdfFile = Files.createFile(rootDir.resolve("HipKro03 - Hello.pdf"));
+        subDirPdfFile = Files.createFile(subDir.resolve("HipKro03a.pdf"));
+        Files.createFile(rootDir.resolve("HipKro03.jpg"));
+        Files.createFile(rootDir.resolve("Kro03.pdf"));
+    }
+
+    @Test
+    void findsFilesStartingWithPrefixInSubDirectories() throws Exception {
+        DirectorySnapshot snapshot = DirectorySnapshot.create(List.of(rootDir), EXTENSIONS);
+
+        assertEquals(List.of(pdfFile, subDirPdfFile), snapshot.getFilesStartingWith("HipKro03").stream().sorted().collect(Collectors.toList()));
+        assertEquals(3, snapshot.getNumberOfFiles());
+    }
+
+    @Test
+    void findsNothingInNonExistingDirectory() throws Exception {
+        DirectorySnapshot snapshot = DirectorySnapshot.create(List.of(rootDir.resolve("missing")), EXTENSIONS);
+
+        assertEquals(List.of(), snapshot.getFilesStartingWith("HipKro03"));
+        assertTrue(snapshot.isUpToDate());
+    }
+
+    @Test
+    void storedSnapshotIsLoaded(@TempDir Path cacheDir) throws Exception {
+        Path cacheFile = cacheDir.resolve("snapshot");
+        DirectorySnapshot.create(List.of(rootDir), EXTENSIONS).store(cacheFile);
+
+        Optional<DirectorySnapshot> snapshot = DirectorySnapshot.load(cacheFile, List.of(rootDir), EXTENSIONS);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(List.of(subDirPdfFile), snapshot.get().getFilesStartingWith("HipKro03a"));
+    }
+
+    @Test
+    void storedSnapshotOfOtherExtensionsIsNotLoaded(@TempDir Path cacheDir) throws Exception {
+        Path cacheFile = cacheDir.resolve("snapshot");
+        DirectorySnapshot.create(List.of(rootDir), EXTENSIONS).store(cacheFile);
+
+        assertEquals(Optional.empty(), DirectorySnapshot.load(cacheFile, List.of(rootDir), List.of("pdf", "jpg")));
+    }
+
+    @Test
+    void snapshotIsOutdatedAfterModificationOfSubDirectory() throws Exception {
+        DirectorySnapshot snapshot = DirectorySnapshot.create(List.of(rootDir), EXTENSIONS);
+
+        Files.createFile(subDir.resolve("HipKro03b.pdf"));
+        // The modification time might not have changed yet due to its resolution
+        Files.setLastModifiedTime(subDir, FileTime.fromMillis(Files.getLastModifiedTime(subDir).toMillis() + 1000));
+
+        assertFalse(snapshot.isUpToDate());
+    }
+}
@@ -0,0 +1,43 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ReplacementTableTest {
+
+    private final ReplacementTable table = new ReplacementTable(Map.of(
+            "---", "{\\emdash}",
+            "--", "{\\endash}",
+            "ä", "{\\\"{a}}",
+            "&amp;", "\\&"));
+
+    @Test
+    void replacesAllTexts() {
+        assertEquals("{\\\"{a}}b {\\endash} \\& {\\\"{a}}", table.replace("äb -- &amp; ä"));
+    }
+
+    @Test
+    void replacesLongestText() {
+        assertEquals("{\\emdash}{\\endash}", table.replace("-----"));
+    }
+
+    @Test
+    void doesNotReplaceReplacements() {
+        assertEquals("\\&amp;", table.replace("&amp;amp;"));
+    }
+
+    @Test
+    void replacesTextsAtStartAndEnd() {
+        assertEquals("{\\endash}x{\\emdash}", table.replace("--x---"));
+    }
+
+    @Test
+    void returnsTextWithoutTextsToReplace() {
+        String text = "plain text - &amp";
+        assertSame(text, table.replace(text));
+    }
+}
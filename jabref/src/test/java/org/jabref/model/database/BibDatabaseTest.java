@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
@@ -125,6 +127,34 @@ class BibDatabaseTest {
         assertFalse(database.containsEntryWithId(entry3.getId()));
     }
 
+    @Test
+    void removeSomeEntriesChangesEntriesListOnce() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        BibEntry entry3 = new BibEntry();
+        database.insertEntries(entry1, entry2, entry3);
+        List<ListChangeListener.Change<? extends BibEntry>> changes = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) changes::add);
+
+        database.removeEntries(Arrays.asList(entry1, entry3));
+
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(entry2), database.getEntries());
+    }
+
+    @Test
+    void containsEntryWithChangedId() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+
+        entry.setId("newId");
+
+        assertFalse(database.containsEntryWithId(oldId));
+        assertTrue(database.containsEntryWithId("newId"));
+        assertEquals(Optional.of(entry), database.getEntryById("newId"));
+    }
+
     @Test
     void insertNullEntryThrowsException() {
         assertThrows(NullPointerException.class, () -> database.insertEntry(null));
@@ -334,6 +364,64 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void batchEditPostsOneChangeEventWhenClosed() {
+        BibEntry firstEntry = new BibEntry();
+        BibEntry secondEntry = new BibEntry();
+        database.insertEntries(firstEntry, secondEntry);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            firstEntry.setField(StandardField.TITLE, "title");
+            secondEntry.setField(StandardField.YEAR, "2021");
+            firstEntry.setField(StandardField.YEAR, "2020");
+            assertEquals(0, tel.getNumberOfChangeEvents());
+        }
+
+        assertEquals(1, tel.getNumberOfChangeEvents());
+        assertEquals(List.of(firstEntry, secondEntry), tel.getBatchChangedEntries());
+        assertEquals(Set.of(StandardField.TITLE, StandardField.YEAR), tel.getBatchChangedFields());
+    }
+
+    @Test
+    void nestedBatchEditPostsWhenOutermostIsClosed() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            try (BibDatabase.BatchEdit innerBatchEdit = database.startBatchEdit()) {
+                entry.setField(StandardField.TITLE, "title");
+            }
+            assertEquals(0, tel.getNumberOfChangeEvents());
+        }
+
+        assertEquals(1, tel.getNumberOfChangeEvents());
+    }
+
+    @Test
+    void batchEditWithoutChangesPostsNoEvent() {
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        database.startBatchEdit().close();
+
+        assertEquals(0, tel.getNumberOfChangeEvents());
+    }
+
+    @Test
+    void citationKeyChangedInBatchEditIsFoundImmediately() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+
+        try (BibDatabase.BatchEdit batchEdit = database.startBatchEdit()) {
+            entry.setCitationKey("AAA");
+            assertEquals(Optional.of(entry), database.getEntryByCitationKey("AAA"));
+        }
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -365,6 +453,55 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void correctKeyCountAfterClearingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void keyChangeOfRemovedEntryIsIgnored() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntryByCitationKeyFindsEntryWhoseKeyWasSetAfterInsertion() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        entry.setCitationKey("AAA");
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyReturnsEntriesInDatabaseOrder() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "second");
+        second.setCitationKey("AAA");
+        database.insertEntries(first, second);
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -90,4 +90,23 @@ public class KeyChangeListenerTest {
         db.removeEntries(entries);
         assertEquals(Optional.empty(), entry2.getField(StandardField.RELATED));
     }
+
+    @Test
+    public void testRelatedChangedInBatchEdit() {
+        try (BibDatabase.BatchEdit batchEdit = db.startBatchEdit()) {
+            entry1.setCitationKey("Banana");
+            entry3.setCitationKey("Cherry");
+        }
+        assertEquals(Optional.of("Banana,Cherry"), entry2.getField(StandardField.RELATED));
+        assertEquals(Optional.of("Banana,Entry2,Cherry"), entry3.getField(StandardField.RELATED));
+    }
+
+    @Test
+    public void testCrossrefChangedTwiceInBatchEdit() {
+        try (BibDatabase.BatchEdit batchEdit = db.startBatchEdit()) {
+            entry4.setCitationKey("Banana");
+            entry4.setCitationKey("Cherry");
+        }
+        assertEquals(Optional.of("Cherry"), entry1.getField(StandardField.CROSSREF));
+    }
 }
@@ -115,6 +115,23 @@ public class AuthorListTest {
         assertNotSame(authorList, AuthorList.parse("Smith").latexFree());
     }
 
+    @Test
+    public void parseSharesAuthorsBetweenLists() {
+        Author author = AuthorList.parse("Smith, John and Doe, Jane").getAuthor(0);
+        assertSame(author, AuthorList.parse("Smith, John").getAuthor(0));
+    }
+
+    @Test
+    public void parseCountsCacheHits() {
+        String authors = "Hit, Cache";
+        AuthorList.parse(authors);
+        long hitCount = AuthorList.getCacheStatistics().hitCount();
+
+        AuthorList.parse(new String(authors));
+
+        assertTrue(AuthorList.getCacheStatistics().hitCount() > hitCount);
+    }
+
     @Test
     public void testFixAuthorFirstNameFirstCommas() {
 
@@ -6,6 +6,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.beans.property.ObjectProperty;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -16,6 +22,7 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
@@ -28,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -58,6 +66,49 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setType(null));
     }
 
+    @Test
+    void typePropertyHoldsTypeSetBeforeItsCreation() {
+        entry.setType(StandardEntryType.Book);
+
+        assertEquals(StandardEntryType.Book, entry.typeProperty().getValue());
+    }
+
+    @Test
+    void typePropertyIsCreatedOnceWhenAccessedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                BibEntry newEntry = new BibEntry(StandardEntryType.Article);
+                Callable<ObjectProperty<EntryType>> typeProperty = newEntry::typeProperty;
+                List<Future<ObjectProperty<EntryType>>> properties = executor.invokeAll(Collections.nCopies(4, typeProperty));
+
+                for (Future<ObjectProperty<EntryType>> property : properties) {
+                    assertSame(properties.get(0).get(), property.get());
+                }
+                assertEquals(StandardEntryType.Article, properties.get(0).get().getValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void typePropertyCreatedWhileSettingTypeHoldsNewType() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                BibEntry newEntry = new BibEntry(StandardEntryType.Article);
+                Future<?> setType = executor.submit(() -> newEntry.setType(StandardEntryType.Book));
+                Future<ObjectProperty<EntryType>> typeProperty = executor.submit(newEntry::typeProperty);
+                setType.get();
+
+                assertEquals(StandardEntryType.Book, typeProperty.get().getValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void setNullFieldThrowsNPE() {
         assertThrows(NullPointerException.class, () -> entry.setField(null));
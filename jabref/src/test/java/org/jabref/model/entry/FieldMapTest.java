@@ -0,0 +1,65 @@
+package org.jabref.model.entry;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldMapTest {
+
+    @Test
+    void putReplacesValue() {
+        FieldMap fields = new FieldMap();
+        fields.put(StandardField.TITLE, "first");
+
+        assertEquals("first", fields.put(StandardField.TITLE, "second"));
+        assertEquals(Map.of(StandardField.TITLE, "second"), fields);
+    }
+
+    @Test
+    void getFindsEqualUnknownField() {
+        FieldMap fields = new FieldMap();
+        fields.put(new UnknownField("custom"), "value");
+
+        assertEquals("value", fields.get(new UnknownField("custom")));
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        FieldMap fields = new FieldMap(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2021", StandardField.AUTHOR, "author"));
+
+        assertEquals("2021", fields.remove(StandardField.YEAR));
+        assertNull(fields.remove(StandardField.YEAR));
+        assertEquals(Map.of(StandardField.TITLE, "title", StandardField.AUTHOR, "author"), fields);
+    }
+
+    @Test
+    void iterationIsNotAffectedByChanges() {
+        FieldMap fields = new FieldMap(Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2021"));
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+
+        fields.clear();
+
+        assertEquals(2, Map.ofEntries(iterator.next(), iterator.next()).size());
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> new FieldMap().put(StandardField.TITLE, null));
+    }
+
+    @Test
+    void hashCodeEqualsHashCodeOfHashMap() {
+        Map<Field, String> map = Map.of(StandardField.TITLE, "title", StandardField.YEAR, "2021");
+
+        assertEquals(map.hashCode(), new FieldMap(map).hashCode());
+    }
+}
@@ -1,11 +1,14 @@
 package org.jabref.model.event;
 
 import java.util.List;
+import java.util.Set;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.field.Field;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -15,6 +18,9 @@ public class TestEventListener {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private List<BibEntry> batchChangedEntries;
+    private Set<Field> batchChangedFields;
+    private int numberOfChangeEvents;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -30,6 +36,14 @@ public class TestEventListener {
     @Subscribe
     public void listen(EntryChangedEvent event) {
         this.changedEntry = event.getBibEntry();
+        numberOfChangeEvents++;
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        this.batchChangedEntries = event.getBibEntries();
+        this.batchChangedFields = event.getFields();
+        numberOfChangeEvents++;
     }
 
     public List<BibEntry> getAddedEntries() {
@@ -47,4 +61,16 @@ public class TestEventListener {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public List<BibEntry> getBatchChangedEntries() {
+        return batchChangedEntries;
+    }
+
+    public Set<Field> getBatchChangedFields() {
+        return batchChangedFields;
+    }
+
+    public int getNumberOfChangeEvents() {
+        return numberOfChangeEvents;
+    }
 }
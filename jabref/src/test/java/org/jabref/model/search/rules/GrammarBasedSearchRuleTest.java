@@ -1,6 +1,9 @@
 package org.jabref.model.search.rules;
 
 import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -8,6 +11,7 @@ import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +38,56 @@ public class GrammarBasedSearchRuleTest {
         assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
     }
 
+    @Test
+    void validateSearchStringsRejectsInvalidRegexInFieldComparison() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.of(SearchRules.SearchFlags.REGULAR_EXPRESSION));
+
+        assertFalse(searchRule.validateSearchStrings("title=\"[a\""));
+    }
+
+    @Test
+    void applyRuleMatchesFieldComparisonWithoutRegex() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+
+        String query = "author=shields and year==2001 and not title=survey";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleDoesNotMatchExactComparisonOnSubstring() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+
+        String query = "year==200";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleMatchesMissingFieldForDoesNotContain() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+
+        String query = "keywords!=survey";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleGivesSameResultsInParallel() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+        String query = "author=shields and year=2001";
+        assertTrue(searchRule.validateSearchStrings(query));
+
+        List<BibEntry> entries = IntStream.range(0, 2000)
+                                          .mapToObj(i -> makeBibtexEntry().withField(StandardField.YEAR, String.valueOf(1000 + i)))
+                                          .collect(Collectors.toList());
+        List<BibEntry> sequentialMatches = entries.stream().filter(entry -> searchRule.applyRule(query, entry)).collect(Collectors.toList());
+        List<BibEntry> parallelMatches = entries.parallelStream().filter(entry -> searchRule.applyRule(query, entry)).collect(Collectors.toList());
+
+        assertEquals(1, sequentialMatches.size());
+        assertEquals(sequentialMatches, parallelMatches);
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")